@@ -0,0 +1,53 @@
+package seedu.flashnotes.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.tag.Tag;
+import seedu.flashnotes.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the data sets shared by the benchmarks with a {@code SyntheticDataGenerator}, so that every
+ * benchmark of a given size runs against the same library.
+ */
+public class BenchmarkData {
+
+    public static final int DECK_COUNT = 20;
+    public static final double SKEW = 1;
+    /** A word that the generator uses in about one in ten questions. */
+    public static final String KEYWORD = "photosynthesis";
+
+    /**
+     * Returns a library with {@code size} flashcards spread over {@value #DECK_COUNT} decks with a Zipf skew.
+     */
+    public static FlashNotes getFlashNotes(int size, boolean isCompact) {
+        return new SyntheticDataGenerator().withCardCount(size).withDeckCount(DECK_COUNT).withSkew(SKEW)
+                .generate(isCompact);
+    }
+
+    /**
+     * Returns the flashcards of {@link #getFlashNotes(int, boolean)}, in the same order.
+     */
+    public static List<Flashcard> getFlashcards(int size) {
+        return new ArrayList<>(getFlashNotes(size, false).getFlashcardList());
+    }
+
+    /**
+     * Returns the name of the largest deck of the libraries returned by {@link #getFlashNotes(int, boolean)}.
+     */
+    public static String getLargestDeckName(FlashNotes flashNotes) {
+        return flashNotes.getDeckList().get(0).getDeckName();
+    }
+
+    /**
+     * Returns a flashcard that is not in any generated library.
+     */
+    public static Flashcard getAbsentFlashcard() {
+        return new Flashcard(new Question("Not a generated question?"), new Answer("Not a generated answer."),
+                Tag.of("Not a generated deck"));
+    }
+}
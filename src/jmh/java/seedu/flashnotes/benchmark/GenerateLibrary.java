@@ -0,0 +1,62 @@
+package seedu.flashnotes.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.util.SyntheticDataGenerator;
+import seedu.flashnotes.storage.JsonFlashNotesStorage;
+
+/**
+ * Writes a synthetic library to a data file through {@code JsonFlashNotesStorage}, e.g. to profile the app
+ * with a large library. Settings are given as {@code key=value} arguments:
+ * {@code ./gradlew generateLibrary --args="cards=100000 decks=50 skew=1 unicode=true output=data/flashnotes.json"}.
+ * <p>
+ * Keys: {@code seed}, {@code cards}, {@code decks}, {@code skew}, {@code minLength}, {@code maxLength},
+ * {@code unicode}, {@code compressed} and {@code output}. Keys that are left out keep the generator's defaults.
+ */
+public class GenerateLibrary {
+
+    private static final String DEFAULT_OUTPUT = "build/generated/flashnotes.json";
+
+    /**
+     * Generates the library described by {@code args} and saves it.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> settings = new HashMap<>();
+        for (String arg : args) {
+            String[] keyAndValue = arg.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            settings.put(keyAndValue[0], keyAndValue[1]);
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                Long.parseLong(settings.getOrDefault("seed", String.valueOf(SyntheticDataGenerator.DEFAULT_SEED))));
+        if (settings.containsKey("cards")) {
+            generator.withCardCount(Integer.parseInt(settings.get("cards")));
+        }
+        if (settings.containsKey("decks")) {
+            generator.withDeckCount(Integer.parseInt(settings.get("decks")));
+        }
+        if (settings.containsKey("skew")) {
+            generator.withSkew(Double.parseDouble(settings.get("skew")));
+        }
+        if (settings.containsKey("minLength") || settings.containsKey("maxLength")) {
+            generator.withTextLength(Integer.parseInt(settings.getOrDefault("minLength", "1")),
+                    Integer.parseInt(settings.getOrDefault("maxLength", "140")));
+        }
+        generator.withUnicode(Boolean.parseBoolean(settings.get("unicode")));
+
+        Path output = Paths.get(settings.getOrDefault("output", DEFAULT_OUTPUT));
+        boolean isCompressed = Boolean.parseBoolean(settings.get("compressed"));
+        FlashNotes flashNotes = generator.generate();
+        new JsonFlashNotesStorage(output, isCompressed).saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+        System.out.printf("Wrote %,d flashcards in %,d decks to %s%n", flashNotes.getFlashcardList().size(),
+                flashNotes.getDeckList().size(), output.toAbsolutePath());
+    }
+}
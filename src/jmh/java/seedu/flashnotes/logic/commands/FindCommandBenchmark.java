@@ -0,0 +1,72 @@
+package seedu.flashnotes.logic.commands;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashnotes.benchmark.BenchmarkData;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.flashcard.QuestionContainsKeywordsPredicate;
+
+/**
+ * Measures {@code FindCommand}, which refilters the filtered flashcard list of the model,
+ * both across all decks and within a single deck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final FindCommand findCommand = new FindCommand(
+            new QuestionContainsKeywordsPredicate(Collections.singletonList(BenchmarkData.KEYWORD)));
+    private Model allFlashcardsModel;
+    private Model singleDeckModel;
+
+    @Setup
+    public void setUp() {
+        allFlashcardsModel = new ModelManager(BenchmarkData.getFlashNotes(size, false), new UserPrefs());
+        allFlashcardsModel.setIsInDeckTrue();
+        allFlashcardsModel.setCurrentDeckName(ListAllCommand.DECK_NAME);
+
+        FlashNotes flashNotes = BenchmarkData.getFlashNotes(size, false);
+        singleDeckModel = new ModelManager(flashNotes, new UserPrefs());
+        singleDeckModel.setIsInDeckTrue();
+        singleDeckModel.setCurrentDeckName(BenchmarkData.getLargestDeckName(flashNotes));
+    }
+
+    /**
+     * Finds flashcards across all decks, as in the list of all flashcards.
+     */
+    @Benchmark
+    public CommandResult findInAllFlashcards() {
+        return findCommand.execute(allFlashcardsModel);
+    }
+
+    /**
+     * Finds flashcards within the largest deck.
+     */
+    @Benchmark
+    public CommandResult findInSingleDeck() {
+        return findCommand.execute(singleDeckModel);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.flashnotes.logic.parser;
+
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_QUESTION;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashnotes.logic.commands.Command;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing of user input, from the command word dispatch in {@code FlashNotesParser}
+ * down to the prefix tokenizing of the arguments, for inputs of increasing length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlashNotesParserBenchmark {
+
+    /** Number of words in the question and answer of the input. 15 words is close to the 140 character limit. */
+    @Param({"1", "5", "15"})
+    private int wordCount;
+
+    private final FlashNotesParser parser = new FlashNotesParser();
+    private String addCardInput;
+    private String findInput;
+    private String addCardArguments;
+
+    @Setup
+    public void setUp() {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            words.append(" word").append(i);
+        }
+        addCardArguments = " q/" + words + " a/" + words;
+        addCardInput = "addCard" + addCardArguments;
+        findInput = "find" + words;
+    }
+
+    /**
+     * Parses an {@code addCard} command, which goes through the tokenizer and the field parsers.
+     */
+    @Benchmark
+    public Command parseAddCard() throws ParseException {
+        return parser.parseCommand(addCardInput, false, true, "Deck 0");
+    }
+
+    /**
+     * Parses a {@code find} command, which splits its arguments into keywords.
+     */
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand(findInput, false, true, "Deck 0");
+    }
+
+    /**
+     * Parses a command that is not valid in the current mode, which only goes through the dispatch.
+     */
+    @Benchmark
+    public Command parseInvalidInMode() {
+        try {
+            return parser.parseCommand(addCardInput, false, false, null);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a command without arguments, which is little more than finding the command word in the registry.
+     */
+    @Benchmark
+    public Command parseWithoutArguments() throws ParseException {
+        return parser.parseCommand("help", false, true, "Deck 0");
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code addCard} command on their own.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addCardArguments, PREFIX_QUESTION, PREFIX_ANSWER);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.flashnotes.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ObservableList;
+import seedu.flashnotes.benchmark.BenchmarkData;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.tag.TagContainsKeywordsPredicate;
+
+/**
+ * Measures setting up a review session with {@code ModelManager#setUpReviewList()},
+ * both for all flashcards and for the flashcards of the largest deck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ModelManager allFlashcardsModel;
+    private ModelManager singleDeckModel;
+
+    @Setup
+    public void setUp() {
+        allFlashcardsModel = new ModelManager(BenchmarkData.getFlashNotes(size, false), new UserPrefs());
+        allFlashcardsModel.setIsInDeckTrue();
+        allFlashcardsModel.setCurrentDeckName(Model.getReservedDeckName());
+
+        FlashNotes flashNotes = BenchmarkData.getFlashNotes(size, false);
+        String deckName = BenchmarkData.getLargestDeckName(flashNotes);
+        singleDeckModel = new ModelManager(flashNotes, new UserPrefs());
+        singleDeckModel.setIsInDeckTrue();
+        singleDeckModel.setCurrentDeckName(deckName);
+        singleDeckModel.updateFilteredFlashcardList(new TagContainsKeywordsPredicate(deckName));
+    }
+
+    /**
+     * Shuffles and trims all flashcards into a review list.
+     */
+    @Benchmark
+    public ObservableList<Flashcard> setUpReviewListOfAllFlashcards() {
+        allFlashcardsModel.setUpReviewList();
+        return allFlashcardsModel.getFlashcardsToReview();
+    }
+
+    /**
+     * Shuffles and trims the flashcards of one deck into a review list.
+     */
+    @Benchmark
+    public ObservableList<Flashcard> setUpReviewListOfSingleDeck() {
+        singleDeckModel.setUpReviewList();
+        return singleDeckModel.getFlashcardsToReview();
+    }
+}
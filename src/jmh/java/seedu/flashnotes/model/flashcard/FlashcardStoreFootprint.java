@@ -0,0 +1,48 @@
+package seedu.flashnotes.model.flashcard;
+
+import seedu.flashnotes.benchmark.BenchmarkData;
+
+/**
+ * Compares the heap used by the regular and the compact flashcard store.
+ * Run with {@code ./gradlew footprint}, optionally with {@code -Pfootprint.size=N} for the number of flashcards.
+ */
+public class FlashcardStoreFootprint {
+
+    private static final int DEFAULT_SIZE = 1_000_000;
+
+    /**
+     * Prints the heap retained per flashcard by each store.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        long regularBytes = measure(size, false);
+        long compactBytes = measure(size, true);
+
+        System.out.printf("%,d flashcards%n", size);
+        System.out.printf("regular store: %,d bytes (%d bytes per flashcard)%n", regularBytes, regularBytes / size);
+        System.out.printf("compact store: %,d bytes (%d bytes per flashcard)%n", compactBytes, compactBytes / size);
+    }
+
+    /**
+     * Returns the heap retained by a store of {@code size} flashcards. The flashcards are created for the store
+     * alone, so that whatever it keeps of them is counted.
+     */
+    private static long measure(int size, boolean isCompact) {
+        long before = usedHeap();
+        UniqueFlashcardList store = new UniqueFlashcardList(isCompact);
+        store.setFlashcards(BenchmarkData.getFlashcards(size));
+        long after = usedHeap();
+        if (store.asUnmodifiableObservableList().size() != size) {
+            throw new AssertionError("Store lost flashcards");
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.flashnotes.model.flashcard;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashnotes.benchmark.BenchmarkData;
+import seedu.flashnotes.model.tag.Tag;
+
+/**
+ * Measures the duplicate checks and bulk operations of {@code UniqueFlashcardList}, for both the regular and the
+ * compact store. These compare and hash flashcards, so they show the cost of {@code Flashcard#equals(Object)}
+ * and {@code Flashcard#hashCode()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueFlashcardListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean isCompact;
+
+    private UniqueFlashcardList flashcards;
+    private List<Flashcard> generatedFlashcards;
+    private Flashcard lastFlashcard;
+    private Flashcard absentFlashcard;
+    private Map<Flashcard, Flashcard> retaggedFlashcards;
+    private Map<Flashcard, Flashcard> restoredFlashcards;
+
+    @Setup
+    public void setUp() {
+        generatedFlashcards = BenchmarkData.getFlashcards(size);
+        flashcards = new UniqueFlashcardList(isCompact);
+        flashcards.setFlashcards(generatedFlashcards);
+        lastFlashcard = generatedFlashcards.get(size - 1);
+        absentFlashcard = BenchmarkData.getAbsentFlashcard();
+
+        // Moves the cards of the first card's deck to a new deck, as renaming the deck does
+        Tag deckTag = generatedFlashcards.get(0).getTag();
+        Tag newTag = Tag.of("Renamed deck");
+        retaggedFlashcards = new LinkedHashMap<>();
+        restoredFlashcards = new LinkedHashMap<>();
+        for (Flashcard flashcard : generatedFlashcards) {
+            if (flashcard.getTag().equals(deckTag)) {
+                Flashcard retagged = new Flashcard(flashcard.getQuestion(), flashcard.getAnswer(), newTag,
+                        flashcard.getId());
+                retaggedFlashcards.put(flashcard, retagged);
+                restoredFlashcards.put(retagged, flashcard);
+            }
+        }
+    }
+
+    /**
+     * Looks up the flashcard that was added last, which is the worst case for a hit.
+     */
+    @Benchmark
+    public boolean containsLast() {
+        return flashcards.contains(lastFlashcard);
+    }
+
+    /**
+     * Looks up a flashcard that is not in the list.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return flashcards.contains(absentFlashcard);
+    }
+
+    /**
+     * Adds a new flashcard and removes it again, so that the list keeps its size across invocations.
+     */
+    @Benchmark
+    public UniqueFlashcardList addAndRemove() {
+        flashcards.add(absentFlashcard);
+        flashcards.remove(absentFlashcard);
+        return flashcards;
+    }
+
+    /**
+     * Replaces the whole list with the same flashcards, which checks every flashcard for duplicates.
+     */
+    @Benchmark
+    public UniqueFlashcardList setAll() {
+        flashcards.setFlashcards(generatedFlashcards);
+        return flashcards;
+    }
+
+    /**
+     * Moves the cards of a deck to another deck and back, so that the list keeps its contents across invocations.
+     */
+    @Benchmark
+    public UniqueFlashcardList retagDeck() {
+        flashcards.setFlashcards(retaggedFlashcards);
+        flashcards.setFlashcards(restoredFlashcards);
+        return flashcards;
+    }
+}
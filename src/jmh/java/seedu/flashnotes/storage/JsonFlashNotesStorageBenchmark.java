@@ -0,0 +1,77 @@
+package seedu.flashnotes.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.flashnotes.benchmark.BenchmarkData;
+import seedu.flashnotes.commons.exceptions.DataConversionException;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.ReadOnlyFlashNotes;
+
+/**
+ * Measures saving and loading the data file through {@code JsonFlashNotesStorage},
+ * with and without compression. The size of the saved data file is printed before the timings of each setting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonFlashNotesStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean isCompressed;
+
+    private Path directory;
+    private JsonFlashNotesStorage storage;
+    private FlashNotes flashNotes;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("flashnotes-benchmark");
+        storage = new JsonFlashNotesStorage(directory.resolve("flashnotes.json"), isCompressed);
+        flashNotes = BenchmarkData.getFlashNotes(size, false);
+        storage.saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+        System.out.printf("%nData file: %,d bytes for %,d flashcards (%s)%n",
+                Files.size(storage.getFlashNotesFilePath()), size, isCompressed ? "compressed" : "plain");
+    }
+
+    /**
+     * Deletes the data file and the directory it was saved in.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getFlashNotesFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyFlashNotes> load() throws DataConversionException {
+        return storage.readFlashNotes();
+    }
+}
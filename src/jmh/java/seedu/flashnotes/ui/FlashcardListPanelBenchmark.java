@@ -0,0 +1,135 @@
+package seedu.flashnotes.ui;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.flashnotes.benchmark.BenchmarkData;
+import seedu.flashnotes.model.flashcard.Flashcard;
+
+/**
+ * Measures the work done on the JavaFX Application Thread to scroll the list of flashcards by one page,
+ * which is the work of one frame when scrolling. The cards of the list are either reused by each cell, as
+ * {@code FlashcardListPanel} does, or loaded again for every flashcard a cell shows.
+ * <p>
+ * The benchmark opens a window, so it needs a display. Run it with {@code -prof gc} to also see the memory
+ * allocated per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlashcardListPanelBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"reused", "reloaded"})
+    private String cards;
+
+    private Stage stage;
+    private ListView<Flashcard> listView;
+    private int topIndex;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        startToolkit();
+        ObservableList<Flashcard> flashcards = FXCollections.observableList(BenchmarkData.getFlashcards(size));
+        runOnFxThread(() -> {
+            FlashcardListPanel panel = new FlashcardListPanel(flashcards);
+            // The list view is the root of the panel
+            listView = (ListView<Flashcard>) panel.getRoot();
+            if (cards.equals("reloaded")) {
+                listView.setCellFactory(view -> new ReloadingCell());
+            }
+            stage = new Stage();
+            stage.setScene(new Scene(listView, 600, 800));
+            stage.show();
+            listView.applyCss();
+            listView.layout();
+            return null;
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        runOnFxThread(() -> {
+            stage.hide();
+            return null;
+        });
+    }
+
+    /**
+     * Scrolls down by one page, going back to the top at the end of the list, and lays out the list.
+     */
+    @Benchmark
+    public int scrollOnePage() throws Exception {
+        return runOnFxThread(() -> {
+            topIndex = (topIndex + PAGE_SIZE) % size;
+            listView.scrollTo(topIndex);
+            listView.layout();
+            return topIndex;
+        });
+    }
+
+    /**
+     * A cell that loads a new card for every flashcard it shows.
+     */
+    private static class ReloadingCell extends ListCell<Flashcard> {
+        @Override
+        protected void updateItem(Flashcard flashcard, boolean empty) {
+            super.updateItem(flashcard, empty);
+
+            if (empty || flashcard == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new FlashcardCard(flashcard, getIndex() + 1).getRoot());
+            }
+        }
+    }
+
+    private static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // Already started by an earlier trial in this JVM
+            started.countDown();
+        }
+        Platform.setImplicitExit(false);
+        started.await();
+    }
+
+    private static <T> T runOnFxThread(Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        return task.get();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.flashnotes;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,13 @@ import seedu.flashnotes.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
 
     private Path configPath;
+    private boolean isHeadless;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +31,45 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean getIsHeadless() {
+        return isHeadless;
+    }
+
+    public void setIsHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started.
+     * Named parameters take the same {@code --name=value} form as in {@link Application.Parameters#getNamed()}.
+     */
+    public static AppParameters parse(String... args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setIsHeadless(isHeadless);
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -54,11 +92,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && getIsHeadless() == otherAppParameters.getIsHeadless();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isHeadless);
     }
 }
@@ -0,0 +1,122 @@
+package seedu.flashnotes;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.logic.commands.CommandResult;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, executing commands read line by line against the same logic and storage
+ * as the GUI. Started with the {@code --headless} flag,
+ * e.g. {@code java -jar flashnotes.jar --headless < commands.txt}.
+ * <p>
+ * Review sessions are driven by the review window, so in headless mode a review only moves between modes
+ * and does not show the flashcards being reviewed.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final String PROMPT = "> ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Runs the application on standard input and output until the input ends or an exit command is entered,
+     * then saves the data.
+     *
+     * @return the exit status of the process: 0 if every command succeeded, 1 otherwise.
+     */
+    public static int run(AppParameters appParameters) {
+        long startTime = System.nanoTime();
+        logger.info("=========================[ Initializing FlashNotes (headless) ]=========================");
+        HeadlessApp app = new HeadlessApp();
+        app.initComponents(appParameters);
+        logger.info(String.format("Started FlashNotes %s in %d ms", MainApp.VERSION,
+                (System.nanoTime() - startTime) / 1_000_000));
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        try {
+            int failedCount = app.runCommands(input, System.out, System.console() != null);
+            return failedCount == 0 ? 0 : 1;
+        } catch (IOException e) {
+            logger.severe("Failed to read commands: " + e);
+            return 1;
+        } finally {
+            app.stop();
+        }
+    }
+
+    /**
+     * Saves the data before the result of each command is printed, so that a failed save is reported with
+     * the command that caused it.
+     */
+    @Override
+    protected boolean isSavingInBackground() {
+        return false;
+    }
+
+    /**
+     * Runs each command at once, so that its result is printed before the next command is read.
+     */
+    @Override
+    protected Executor getCommandThread() {
+        return null;
+    }
+
+    /**
+     * Executes each non-blank line of {@code input} as a command and prints its result to {@code output}.
+     * Stops at the end of the input or after a command that exits the app.
+     *
+     * @param isInteractive whether to print a prompt before reading each command.
+     * @return the number of commands that failed.
+     * @throws IOException if the input cannot be read.
+     */
+    public int runCommands(BufferedReader input, PrintStream output, boolean isInteractive) throws IOException {
+        int failedCount = 0;
+        while (true) {
+            if (isInteractive) {
+                output.print(PROMPT);
+                output.flush();
+            }
+            String commandText = input.readLine();
+            if (commandText == null) {
+                return failedCount;
+            }
+            if (commandText.isBlank()) {
+                continue;
+            }
+
+            boolean isReviewMode = model.getIsReviewMode();
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.getBackgroundTask().isPresent()) {
+                    // Wait for the task, so that its result is printed before the next command runs
+                    output.println(commandResult.getBackgroundTask().get().getResult().join());
+                }
+                if (commandResult.isExit() && isReviewMode) {
+                    // Ending a review returns to the deck, as closing the review window does
+                    logic.setIsReviewModeFalse();
+                } else if (commandResult.isExit()) {
+                    return failedCount;
+                }
+            } catch (CommandException | ParseException e) {
+                logger.info(() -> "Invalid command: " + commandText);
+                output.println(e.getMessage());
+                failedCount++;
+            } catch (CompletionException e) {
+                output.println(e.getCause().getMessage());
+                failedCount++;
+            }
+        }
+    }
+}
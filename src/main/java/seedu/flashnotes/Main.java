@@ -17,9 +17,15 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * With the {@code --headless} flag, the application runs without JavaFX instead (see {@link HeadlessApp}).
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getIsHeadless()) {
+            System.exit(HeadlessApp.run(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
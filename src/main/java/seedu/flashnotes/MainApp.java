@@ -2,17 +2,25 @@ package seedu.flashnotes;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.flashnotes.commons.core.Config;
 import seedu.flashnotes.commons.core.LogsCenter;
 import seedu.flashnotes.commons.core.Version;
 import seedu.flashnotes.commons.exceptions.DataConversionException;
 import seedu.flashnotes.commons.util.ConfigUtil;
+import seedu.flashnotes.commons.util.FileUtil;
 import seedu.flashnotes.commons.util.StringUtil;
+import seedu.flashnotes.logic.CommandHistory;
+import seedu.flashnotes.logic.CommandMetrics;
 import seedu.flashnotes.logic.Logic;
 import seedu.flashnotes.logic.LogicManager;
 import seedu.flashnotes.model.FlashNotes;
@@ -22,7 +30,7 @@ import seedu.flashnotes.model.ReadOnlyFlashNotes;
 import seedu.flashnotes.model.ReadOnlyUserPrefs;
 import seedu.flashnotes.model.UserPrefs;
 import seedu.flashnotes.model.util.SampleDataUtil;
-import seedu.flashnotes.storage.FlashNotesStorage;
+import seedu.flashnotes.storage.FlashNotesFileWatcher;
 import seedu.flashnotes.storage.JsonFlashNotesStorage;
 import seedu.flashnotes.storage.JsonUserPrefsStorage;
 import seedu.flashnotes.storage.Storage;
@@ -45,27 +53,43 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected FlashNotesFileWatcher fileWatcher;
 
     @Override
     public void init() throws Exception {
+        long startNanos = System.nanoTime();
         logger.info("=============================[ Initializing FlashNotes ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters);
+
+        ui = new UiManager(logic, config.getIsPreloadingWindows(), startNanos);
+        logger.info(() -> String.format("Initialized in %d ms",
+                (System.nanoTime() - startNanos) / 1_000_000));
+    }
+
+    /**
+     * Initializes the config, storage, model and logic of the app, which do not depend on the UI.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        FlashNotesStorage flashNotesStorage = new JsonFlashNotesStorage(userPrefs.getFlashNotesFilePath());
+        JsonFlashNotesStorage flashNotesStorage = new JsonFlashNotesStorage(userPrefs.getFlashNotesFilePath(),
+                userPrefs.getIsFlashNotesFileCompressed());
         storage = new StorageManager(flashNotesStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, initCommandHistory(config.getCommandHistoryFilePath()),
+                isSavingInBackground(), getCommandThread());
 
-        ui = new UiManager(logic);
+        fileWatcher = new FlashNotesFileWatcher(flashNotesStorage, flashNotes ->
+                Platform.runLater(() -> model.syncFlashNotes(flashNotes)));
     }
 
     /**
@@ -169,11 +193,90 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FlashNotes " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        try {
+            fileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch the data file for external changes: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns true if the data is saved on a background thread after each command, so that the window does not
+     * wait for the data file to be written.
+     */
+    protected boolean isSavingInBackground() {
+        return true;
+    }
+
+    /**
+     * Returns the executor of the thread that commands are executed on, where commands make their changes after
+     * their slow part has run in the background, or null if each command should run at once.
+     */
+    protected Executor getCommandThread() {
+        return Platform::runLater;
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the commands in the file at {@code commandHistoryFilePath}, one per line,
+     * or an empty {@code CommandHistory} if the file is not found or cannot be read.
+     */
+    private CommandHistory initCommandHistory(Path commandHistoryFilePath) {
+        if (!FileUtil.isFileExists(commandHistoryFilePath)) {
+            return new CommandHistory();
+        }
+        try {
+            return new CommandHistory(Arrays.asList(FileUtil.readFromFile(commandHistoryFilePath).split("\\R")));
+        } catch (IOException e) {
+            logger.warning("Failed to read command history " + StringUtil.getDetails(e));
+            return new CommandHistory();
+        }
+    }
+
+    /**
+     * Saves the most recent commands entered, so they can be recalled in the next session.
+     */
+    private void saveCommandHistory() {
+        Path historyFilePath = config.getCommandHistoryFilePath();
+        List<String> commands = logic.getCommandHistory().getRecentCommands();
+        if (commands.isEmpty()) {
+            return;
+        }
+        try {
+            FileUtil.createParentDirsOfFile(historyFilePath);
+            FileUtil.writeToFile(historyFilePath, String.join(System.lineSeparator(), commands));
+        } catch (IOException e) {
+            logger.warning("Failed to save command history " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Appends the metrics of the commands run in this session to the command metrics file, so that the timings
+     * of different sessions and versions can be compared.
+     */
+    private void saveCommandMetrics() {
+        CommandMetrics commandMetrics = logic.getCommandMetrics();
+        if (commandMetrics.isEmpty()) {
+            return;
+        }
+        Path metricsFilePath = config.getCommandMetricsFilePath();
+        logger.info("Saving command metrics to " + metricsFilePath);
+        String session = String.format("=== FlashNotes %s, session ended %s ===%n%s%n%n", VERSION,
+                LocalDateTime.now().withNano(0), commandMetrics.getSummary());
+        try {
+            FileUtil.createParentDirsOfFile(metricsFilePath);
+            FileUtil.appendToFile(metricsFilePath, session);
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FlashNotes ] =============================");
+        fileWatcher.stop();
+        // So that an older copy of the data is not written after the data is saved below
+        storage.waitForBackgroundSaves();
         try {
             logger.info("Saving User Pref...");
             storage.saveUserPrefs(model.getUserPrefs());
@@ -182,6 +285,8 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences or data to file " + StringUtil.getDetails(e));
         }
+        saveCommandMetrics();
+        saveCommandHistory();
         logger.info("============================ [ FlashNotes Exited ] =============================");
     }
 }
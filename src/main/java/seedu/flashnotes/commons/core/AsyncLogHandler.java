@@ -0,0 +1,173 @@
+package seedu.flashnotes.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Passes log records on to other handlers from a background thread, so that logging does not wait for the console
+ * or the disk. Records are queued and written in batches, with the handlers flushed once per batch rather than
+ * once per record.
+ * <p>
+ * The queue is bounded. When it is full, records below {@code WARNING} are dropped and counted, while warnings
+ * and errors wait for space so that they are never lost.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final Handler[] targets;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount;
+    private final Thread writerThread;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records on to {@code targets}, queueing at most {@code capacity} records.
+     */
+    public AsyncLogHandler(int capacity, Handler... targets) {
+        this.targets = targets.clone();
+        queue = new ArrayBlockingQueue<>(capacity);
+        writerThread = new Thread(this::writeRecords, "flashnotes-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is found from the stack of the logging thread, so it has to be found before the record is queued
+        record.getSourceClassName();
+        if (queue.offer(record)) {
+            queuedCount.incrementAndGet();
+            return;
+        }
+        if (record.getLevel().intValue() < Level.WARNING.intValue()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        try {
+            queue.put(record);
+            queuedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of records that have been dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits for the records queued so far to be written, then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        long toWrite = queuedCount.get();
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        try {
+            while (writtenCount.get() < toWrite && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            for (Handler target : targets) {
+                target.flush();
+            }
+        }
+    }
+
+    /**
+     * Writes the queued records, then stops the background thread and closes the handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writerThread.interrupt();
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            List<LogRecord> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            writeBatch(batch);
+            for (Handler target : targets) {
+                target.close();
+            }
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!isClosed) {
+            try {
+                LogRecord first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                synchronized (this) {
+                    writeBatch(batch);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Interrupted by close(), which writes whatever is left in the queue
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes {@code batch} to the handlers and flushes them. Must be called while holding the lock on this handler.
+     */
+    private void writeBatch(List<LogRecord> batch) {
+        int recordCount = batch.size();
+        long dropped = droppedCount.get() - reportedDroppedCount;
+        if (dropped > 0) {
+            reportedDroppedCount += dropped;
+            batch.add(new LogRecord(Level.WARNING, dropped + " log records were dropped as logging fell behind"));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (LogRecord record : batch) {
+            for (Handler target : targets) {
+                try {
+                    target.publish(record);
+                } catch (RuntimeException e) {
+                    reportError("Failed to publish a log record", e, ErrorManager.WRITE_FAILURE);
+                }
+            }
+        }
+        for (Handler target : targets) {
+            target.flush();
+        }
+        writtenCount.addAndGet(recordCount);
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.flashnotes.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list that can make any number of changes and notify its listeners of them with a single change,
+ * instead of one change per element. Lists and views built on it, such as a {@code FilteredList} shown in a
+ * {@code ListView}, then update once for a bulk operation.
+ */
+public abstract class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    /**
+     * Returns an empty {@code BatchedObservableList} backed by an {@code ArrayList}.
+     */
+    public static <E> BatchedObservableList<E> observableArrayList() {
+        return new ArrayBackedList<>();
+    }
+
+    /**
+     * Runs {@code changes}, which may change this list any number of times, and then notifies the listeners
+     * of this list once with all of the changes.
+     */
+    public void applyAsOneChange(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * A {@code BatchedObservableList} that keeps its elements in an {@code ArrayList}.
+     */
+    private static class ArrayBackedList<E> extends BatchedObservableList<E> {
+
+        private final List<E> elements = new ArrayList<>();
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return elements.remove(index);
+        }
+
+        /**
+         * Removes the elements in the range with a single shift of the backing list,
+         * instead of the one-element-at-a-time removal of the superclass.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex == toIndex) {
+                return;
+            }
+            beginChange();
+            try {
+                List<E> range = elements.subList(fromIndex, toIndex);
+                List<E> removed = new ArrayList<>(range);
+                range.clear();
+                modCount++;
+                nextRemove(fromIndex, removed);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Removes the elements contained in {@code c} in a single pass over the backing list,
+         * instead of the one-element-at-a-time removal of the superclass.
+         */
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            requireNonNull(c);
+            beginChange();
+            try {
+                int kept = 0;
+                for (int i = 0; i < elements.size(); i++) {
+                    E element = elements.get(i);
+                    if (c.contains(element)) {
+                        // Positions are reported as they are once the earlier removals have been applied
+                        nextRemove(kept, element);
+                        continue;
+                    }
+                    elements.set(kept, element);
+                    kept++;
+                }
+                if (kept == elements.size()) {
+                    return false;
+                }
+                elements.subList(kept, elements.size()).clear();
+                modCount++;
+                return true;
+            } finally {
+                endChange();
+            }
+        }
+    }
+}
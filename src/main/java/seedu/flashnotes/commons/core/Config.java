@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path commandMetricsFilePath = Paths.get("metrics.txt");
+    private Path commandHistoryFilePath = Paths.get("history.txt");
+    private boolean isPreloadingWindows = true;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getCommandMetricsFilePath() {
+        return commandMetricsFilePath;
+    }
+
+    public void setCommandMetricsFilePath(Path commandMetricsFilePath) {
+        this.commandMetricsFilePath = commandMetricsFilePath;
+    }
+
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public boolean getIsPreloadingWindows() {
+        return isPreloadingWindows;
+    }
+
+    public void setIsPreloadingWindows(boolean isPreloadingWindows) {
+        this.isPreloadingWindows = isPreloadingWindows;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +71,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(commandMetricsFilePath, o.commandMetricsFilePath)
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && isPreloadingWindows == o.isPreloadingWindows;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, commandMetricsFilePath, commandHistoryFilePath,
+                isPreloadingWindows);
     }
 
     @Override
@@ -57,6 +88,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCommand metrics file Location : " + commandMetricsFilePath);
+        sb.append("\nCommand history file Location : " + commandHistoryFilePath);
+        sb.append("\nPreload secondary windows : " + isPreloadingWindows);
         return sb.toString();
     }
 
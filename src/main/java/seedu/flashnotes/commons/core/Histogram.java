@@ -0,0 +1,92 @@
+package seedu.flashnotes.commons.core;
+
+/**
+ * Counts non-negative values in a fixed set of buckets whose width grows with the value, in the manner of
+ * HdrHistogram. Each power of two is split into {@value #SUB_BUCKET_COUNT} buckets, so a percentile is reported
+ * to within {@code 1 / SUB_BUCKET_COUNT} of the recorded value whatever the magnitude of the values.
+ * <p>
+ * Recording a value is a few arithmetic operations and never allocates, so it is cheap enough to do on every
+ * command. The buckets take the same small, fixed amount of memory however many values are recorded.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Values below this are counted exactly, one bucket per value. */
+    private static final int EXACT_LIMIT = 2 * SUB_BUCKET_COUNT;
+    private static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long sum;
+    private long max;
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        counts[bucketOf(recorded)]++;
+        count++;
+        sum += recorded;
+        max = Math.max(max, recorded);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if no values were recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at or below,
+     * rounded up to the top of its bucket but no higher than the largest recorded value.
+     * Returns 0 if no values were recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in. Above {@link #EXACT_LIMIT}, the bucket is given by
+     * the position of the highest set bit and the {@value #SUB_BUCKET_BITS} bits below it.
+     */
+    private static int bucketOf(long value) {
+        if (value < EXACT_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+        return (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + mantissa;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < EXACT_LIMIT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long mantissa = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        long highest = ((mantissa + 1) << shift) - 1;
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
@@ -2,9 +2,13 @@ package seedu.flashnotes.commons.core;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,39 +18,40 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written to the console and the file from a background thread (see {@link AsyncLogHandler}),
+ *   so logging does not slow down the commands. Loggers are configured once and then cached.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "flashnotes.log";
+    private static final Map<String, Logger> configuredLoggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The level applies to the loggers obtained both before and after this initialization.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        configuredLoggers.values().forEach(configuredLogger -> configuredLogger.setLevel(currentLogLevel));
+        if (asyncHandler != null) {
+            asyncHandler.setLevel(currentLogLevel);
+        }
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        Logger configuredLogger = configuredLoggers.get(name);
+        if (configuredLogger != null) {
+            return configuredLogger;
+        }
+        return configureLogger(name);
     }
 
     /**
@@ -60,14 +65,25 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Writes the messages that are still queued and closes the log file.
+     * Messages logged afterwards are discarded.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
         }
-        logger.addHandler(consoleHandler);
+    }
+
+    private static synchronized Logger configureLogger(String name) {
+        return configuredLoggers.computeIfAbsent(name, loggerName -> {
+            Logger logger = Logger.getLogger(loggerName);
+            logger.setUseParentHandlers(false);
+            logger.setLevel(currentLogLevel);
+
+            removeHandlers(logger);
+            logger.addHandler(getAsyncHandler());
+            return logger;
+        });
     }
 
     /**
@@ -79,18 +95,25 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler that all loggers write to. <br>
+     * Creates it, along with the console and file handlers it writes to, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+        Handler consoleHandler = createConsoleHandler();
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, consoleHandler,
+                    createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+            asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, consoleHandler);
         }
+        asyncHandler.setLevel(currentLogLevel);
+        // Writes out the messages still in the queue when the app exits
+        Runtime.getRuntime().addShutdownHook(new Thread(LogsCenter::close, "flashnotes-log-closer"));
+        return asyncHandler;
     }
 
     /**
@@ -98,15 +121,44 @@ public class LogsCenter {
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
-        FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+        FileHandler fileHandler = new BatchFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
+
+    /**
+     * A {@code FileHandler} that leaves flushing to its caller. {@code FileHandler} flushes the file after every
+     * record, while {@link AsyncLogHandler} writes records in batches and flushes once per batch.
+     */
+    private static class BatchFileHandler extends FileHandler {
+        private boolean isPublishing;
+
+        BatchFileHandler(String pattern, int limit, int count) throws IOException {
+            super(pattern, limit, count, true);
+        }
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            isPublishing = true;
+            try {
+                super.publish(record);
+            } finally {
+                isPublishing = false;
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (!isPublishing) {
+                super.flush();
+            }
+        }
+    }
 }
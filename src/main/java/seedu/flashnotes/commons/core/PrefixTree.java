@@ -0,0 +1,138 @@
+package seedu.flashnotes.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A set of words stored as a trie, so that the words starting with a given prefix are found by following the
+ * characters of the prefix, however many words there are. Words can be added and removed one at a time.
+ */
+public class PrefixTree {
+
+    private final Node root = new Node();
+
+    /**
+     * One character of a word. The words below a node are the words starting with the characters on its path.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private boolean isWord;
+        private int wordCount;
+    }
+
+    /**
+     * Adds {@code word}. Returns false if it was already present.
+     */
+    public boolean add(String word) {
+        requireNonNull(word);
+        if (contains(word)) {
+            return false;
+        }
+        Node node = root;
+        node.wordCount++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new Node());
+            node.wordCount++;
+        }
+        node.isWord = true;
+        return true;
+    }
+
+    /**
+     * Removes {@code word}. Returns false if it was not present.
+     */
+    public boolean remove(String word) {
+        requireNonNull(word);
+        if (!contains(word)) {
+            return false;
+        }
+        Node node = root;
+        node.wordCount--;
+        for (int i = 0; i < word.length(); i++) {
+            Node child = node.children.get(word.charAt(i));
+            if (--child.wordCount == 0) {
+                // No other word goes through the rest of the path
+                node.children.remove(word.charAt(i));
+                return true;
+            }
+            node = child;
+        }
+        node.isWord = false;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code word} is present.
+     */
+    public boolean contains(String word) {
+        Node node = findNode(word);
+        return node != null && node.isWord;
+    }
+
+    public int size() {
+        return root.wordCount;
+    }
+
+    /**
+     * Returns the number of words that start with {@code prefix}.
+     */
+    public int countWordsStartingWith(String prefix) {
+        Node node = findNode(prefix);
+        return node == null ? 0 : node.wordCount;
+    }
+
+    /**
+     * Returns the words that start with {@code prefix}, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix) {
+        List<String> words = new ArrayList<>();
+        Node node = findNode(prefix);
+        if (node != null) {
+            collectWords(node, new StringBuilder(prefix), words);
+        }
+        return words;
+    }
+
+    /**
+     * Returns the longest string that every word starting with {@code prefix} starts with,
+     * or an empty {@code Optional} if no word starts with {@code prefix}.
+     */
+    public Optional<String> getLongestCommonPrefix(String prefix) {
+        Node node = findNode(prefix);
+        if (node == null || node.wordCount == 0) {
+            return Optional.empty();
+        }
+        StringBuilder commonPrefix = new StringBuilder(prefix);
+        while (!node.isWord && node.children.size() == 1) {
+            Map.Entry<Character, Node> onlyChild = node.children.entrySet().iterator().next();
+            commonPrefix.append(onlyChild.getKey());
+            node = onlyChild.getValue();
+        }
+        return Optional.of(commonPrefix.toString());
+    }
+
+    private Node findNode(String prefix) {
+        requireNonNull(prefix);
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private static void collectWords(Node node, StringBuilder path, List<String> words) {
+        if (node.isWord) {
+            words.add(path.toString());
+        }
+        node.children.forEach((character, child) -> {
+            path.append(character);
+            collectWords(child, path, words);
+            path.setLength(path.length() - 1);
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.flashnotes.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing delimiter-separated records, such as CSV and TSV files.
+ * Fields may be quoted with {@code "}, in which case they may contain the delimiter, line breaks and
+ * quotes written as {@code ""}, as described in RFC 4180.
+ */
+public class CsvUtil {
+
+    public static final char COMMA = ',';
+    public static final char TAB = '\t';
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the delimiter of the file at {@code file}, judging by its extension:
+     * tab for {@code .tsv} and {@code .txt} files, such as the plain text files of Anki, and comma otherwise.
+     */
+    public static char getDelimiter(Path file) {
+        requireNonNull(file);
+        String fileName = file.getFileName() == null ? "" : file.getFileName().toString().toLowerCase();
+        return fileName.endsWith(".tsv") || fileName.endsWith(".txt") ? TAB : COMMA;
+    }
+
+    /**
+     * Reads the next record from {@code reader}, reading more than one line if a quoted field spans lines.
+     *
+     * @return the fields of the record, or null if the end of the input has been reached.
+     * @throws IOException if the input cannot be read.
+     */
+    public static List<String> readRecord(BufferedReader reader, char delimiter) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // A quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    break;
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted && c == QUOTE) {
+                if (i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (isQuoted) {
+                field.append(c);
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns {@code fields} as one record separated by {@code delimiter}, without a line break at the end.
+     * Fields that contain the delimiter, a quote or a line break are quoted.
+     */
+    public static String formatRecord(List<String> fields, char delimiter) {
+        requireNonNull(fields);
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                record.append(delimiter);
+            }
+            appendField(record, fields.get(i), delimiter);
+        }
+        return record.toString();
+    }
+
+    private static void appendField(StringBuilder record, String field, char delimiter) {
+        boolean isQuoteNeeded = field.indexOf(delimiter) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!isQuoteNeeded) {
+            record.append(field);
+            return;
+        }
+        record.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                record.append(QUOTE);
+            }
+            record.append(c);
+        }
+        record.append(QUOTE);
+    }
+}
@@ -1,10 +1,19 @@
 package seedu.flashnotes.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +21,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +90,75 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns true if {@code file} starts with the gzip magic number.
+     * Assumes file exists.
+     */
+    public static boolean isGzipFile(Path file) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return hasGzipMagic(in);
+        }
+    }
+
+    /**
+     * Opens a buffered stream to read {@code file}, decompressing it on the fly if it is gzip-compressed.
+     * Assumes file exists.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file));
+        try {
+            return hasGzipMagic(in) ? new GZIPInputStream(in) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a buffered stream to write {@code file}, compressing the content with gzip if {@code isCompressed}.
+     * Will create the file if it does not exist yet, and truncate it otherwise.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isCompressed) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+        return isCompressed ? new GZIPOutputStream(out) : out;
+    }
+
+    /**
+     * Returns a sibling of {@code file} that can be written to and then moved over {@code file}
+     * with {@link #replaceFile(Path, Path)}.
+     */
+    public static Path getTempFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces {@code target} with {@code source}, atomically if the file system supports it.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns true if the next two bytes of {@code in} are the gzip magic number, without consuming them.
+     */
+    private static boolean hasGzipMagic(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.flashnotes.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -40,17 +42,41 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    /**
+     * Streams {@code objectToSerialize} into {@code jsonFile}, gzip-compressed if {@code isCompressed}.
+     * The content is written to a temporary file first so that a failed write never leaves a truncated file behind.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompressed)
+            throws IOException {
+        Path tempFile = FileUtil.getTempFile(jsonFile);
+        try {
+            try (OutputStream out = FileUtil.newOutputStream(tempFile, isCompressed)) {
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize);
+            }
+            FileUtil.replaceFile(tempFile, jsonFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Streams the content of {@code jsonFile} into an instance of {@code classOfObjectToDeserialize}.
+     * Gzip-compressed files are detected and decompressed on the fly.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * The file may be gzip-compressed.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -84,10 +110,21 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but gzip-compresses the file if {@code isCompressed}.
+     * Compressed files can be read back with {@link #readJsonFile(Path, Class)}.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompressed) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompressed);
     }
 
 
@@ -0,0 +1,91 @@
+package seedu.flashnotes.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_DECK_NAME;
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collection;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.flashnotes.commons.core.PrefixTree;
+import seedu.flashnotes.logic.commands.EditCardCommand;
+import seedu.flashnotes.logic.commands.EnterDeckCommand;
+import seedu.flashnotes.logic.commands.ExportCommand;
+import seedu.flashnotes.model.deck.Deck;
+
+/**
+ * Completes the command word or deck name being typed in a command.
+ * <p>
+ * The deck names are kept in step with the list of decks as decks are added, renamed and deleted, so they are
+ * not collected again for every completion.
+ */
+public class CommandCompleter {
+
+    private final PrefixTree commandWords = new PrefixTree();
+    private final PrefixTree deckNames = new PrefixTree();
+
+    /**
+     * Creates a {@code CommandCompleter} for {@code commandWords} and the names of the decks in {@code decks}.
+     */
+    public CommandCompleter(Collection<String> commandWords, ObservableList<Deck> decks) {
+        requireNonNull(commandWords);
+        requireNonNull(decks);
+        commandWords.forEach(this.commandWords::add);
+        decks.forEach(deck -> deckNames.add(deck.getDeckName()));
+        decks.addListener(this::updateDeckNames);
+    }
+
+    private void updateDeckNames(ListChangeListener.Change<? extends Deck> change) {
+        // A renamed deck is replaced by a deck with the new name. All removals are applied before any addition,
+        // as a batched change may add a deck before removing another deck with the same name.
+        while (change.next()) {
+            change.getRemoved().forEach(deck -> deckNames.remove(deck.getDeckName()));
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(deck -> deckNames.add(deck.getDeckName()));
+        }
+    }
+
+    /**
+     * Returns {@code commandText} with the command word or deck name at its end completed as far as every
+     * match agrees. A command word with a single match is followed by a space. Returns {@code commandText}
+     * unchanged if there is nothing to complete.
+     */
+    public String complete(String commandText) {
+        requireNonNull(commandText);
+        int separatorIndex = commandText.indexOf(' ');
+        if (separatorIndex == -1) {
+            return completeWord(commandText, "", commandWords, " ");
+        }
+
+        String commandWord = commandText.substring(0, separatorIndex);
+        if (commandWord.equals(EnterDeckCommand.COMMAND_WORD)) {
+            return completeWord(commandText.substring(separatorIndex + 1),
+                    commandText.substring(0, separatorIndex + 1), deckNames, "");
+        }
+        String deckPrefix = commandWord.equals(EditCardCommand.COMMAND_WORD) ? PREFIX_TAG.getPrefix()
+                : commandWord.equals(ExportCommand.COMMAND_WORD) ? PREFIX_DECK_NAME.getPrefix()
+                : null;
+        if (deckPrefix == null) {
+            return commandText;
+        }
+        int deckNameIndex = commandText.lastIndexOf(" " + deckPrefix);
+        if (deckNameIndex == -1) {
+            return commandText;
+        }
+        deckNameIndex += deckPrefix.length() + 1;
+        return completeWord(commandText.substring(deckNameIndex), commandText.substring(0, deckNameIndex),
+                deckNames, "");
+    }
+
+    private static String completeWord(String partialWord, String textBefore, PrefixTree words,
+            String suffixIfUnique) {
+        return words.getLongestCommonPrefix(partialWord)
+                .map(completed -> words.countWordsStartingWith(partialWord) == 1 ? completed + suffixIfUnique
+                        : completed)
+                .map(completed -> textBefore + completed)
+                .orElse(textBefore + partialWord);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.flashnotes.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The last {@code DEFAULT_CAPACITY} commands entered by the user, oldest first.
+ * <p>
+ * Commands are recalled by their index. The commands starting with some text are found through a sorted map of
+ * the distinct commands in the history, so a search looks only at the commands that match.
+ */
+public class CommandHistory {
+
+    /** The number of commands kept in the history, and between runs of the app. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final List<String> commands = new ArrayList<>();
+    /**
+     * The sequence numbers of the commands in the history, oldest first, by command. The sequence number of
+     * a command is its index plus the number of commands dropped from the history before it.
+     */
+    private final TreeMap<String, Deque<Integer>> sequenceNumbersByCommand = new TreeMap<>();
+    private int droppedCount = 0;
+
+    public CommandHistory() {}
+
+    /**
+     * Creates a {@code CommandHistory} with the last {@code DEFAULT_CAPACITY} of {@code commands}.
+     */
+    public CommandHistory(List<String> commands) {
+        requireNonNull(commands);
+        commands.subList(Math.max(0, commands.size() - DEFAULT_CAPACITY), commands.size()).forEach(this::add);
+    }
+
+    /**
+     * Adds {@code command} to the end of the history, dropping the oldest command if the history is full.
+     * Blank commands and commands that repeat the last command are not added.
+     */
+    public void add(String command) {
+        requireNonNull(command);
+        if (command.isBlank() || (!commands.isEmpty() && commands.get(commands.size() - 1).equals(command))) {
+            return;
+        }
+        if (commands.size() == DEFAULT_CAPACITY) {
+            dropOldestCommand();
+        }
+        sequenceNumbersByCommand.computeIfAbsent(command, unused -> new ArrayDeque<>())
+                .addLast(droppedCount + commands.size());
+        commands.add(command);
+    }
+
+    private void dropOldestCommand() {
+        String oldest = commands.remove(0);
+        Deque<Integer> sequenceNumbers = sequenceNumbersByCommand.get(oldest);
+        sequenceNumbers.removeFirst();
+        if (sequenceNumbers.isEmpty()) {
+            sequenceNumbersByCommand.remove(oldest);
+        }
+        droppedCount++;
+    }
+
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * Returns the command at {@code index}, where 0 is the oldest command.
+     */
+    public String get(int index) {
+        return commands.get(index);
+    }
+
+    /**
+     * Returns the indices of the commands that start with {@code prefix}, oldest first.
+     */
+    public List<Integer> getIndicesStartingWith(String prefix) {
+        requireNonNull(prefix);
+        List<Integer> indices = new ArrayList<>();
+        for (Map.Entry<String, Deque<Integer>> entry : sequenceNumbersByCommand.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                // The commands starting with the prefix are sorted together, ahead of every other command
+                break;
+            }
+            entry.getValue().forEach(sequenceNumber -> indices.add(sequenceNumber - droppedCount));
+        }
+        Collections.sort(indices);
+        return Collections.unmodifiableList(indices);
+    }
+
+    /**
+     * Returns the commands in the history, oldest first, to be kept for the next run of the app.
+     */
+    public List<String> getRecentCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.flashnotes.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.flashnotes.commons.core.Histogram;
+
+/**
+ * Keeps histograms of how long each type of command takes to be parsed, executed and saved, how much memory
+ * it allocates and how many flashcards are in the flashnotes when it runs, so that slow commands can be found from
+ * real usage. Saves may finish on another thread, so all methods are synchronized.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_HEADER = "Command: count | parse, execute and save time in ms "
+            + "(median / 99th percentile / max) | median allocated | median library size";
+    public static final String MESSAGE_COMMAND_LINE = "\n%1$s: %2$d | %3$s, %4$s, %5$s | %6$s | %7$d";
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    private final Map<String, CommandTypeMetrics> metricsByCommandType = new TreeMap<>();
+
+    /**
+     * The histograms of one type of command.
+     */
+    private static class CommandTypeMetrics {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+        private final Histogram librarySizes = new Histogram();
+    }
+
+    /**
+     * Records one run of a command of type {@code commandType}. The time taken to save its changes is recorded
+     * separately with {@link #recordSave}, once the save has finished.
+     *
+     * @param allocatedBytes the memory allocated by the command, or a negative value if it is not known.
+     * @param librarySize the number of flashcards in the flashnotes after the command.
+     */
+    public synchronized void record(String commandType, long parseNanos, long executeNanos, long allocatedBytes,
+            int librarySize) {
+        CommandTypeMetrics metrics = getMetrics(commandType);
+        metrics.parseNanos.record(parseNanos);
+        metrics.executeNanos.record(executeNanos);
+        if (allocatedBytes >= 0) {
+            metrics.allocatedBytes.record(allocatedBytes);
+        }
+        metrics.librarySizes.record(librarySize);
+    }
+
+    /**
+     * Records the time from the end of a command of type {@code commandType} until its changes were written to
+     * the data file.
+     */
+    public synchronized void recordSave(String commandType, long saveNanos) {
+        getMetrics(commandType).saveNanos.record(saveNanos);
+    }
+
+    private CommandTypeMetrics getMetrics(String commandType) {
+        requireNonNull(commandType);
+        return metricsByCommandType.computeIfAbsent(commandType, type -> new CommandTypeMetrics());
+    }
+
+    public synchronized boolean isEmpty() {
+        return metricsByCommandType.isEmpty();
+    }
+
+    /**
+     * Returns a table of the recorded metrics with one line per type of command, in alphabetical order.
+     */
+    public synchronized String getSummary() {
+        if (isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        metricsByCommandType.forEach((commandType, metrics) -> summary.append(String.format(MESSAGE_COMMAND_LINE,
+                commandType, metrics.executeNanos.getCount(), formatMillis(metrics.parseNanos),
+                formatMillis(metrics.executeNanos), formatMillis(metrics.saveNanos),
+                formatBytes(metrics.allocatedBytes), metrics.librarySizes.getValueAtPercentile(50))));
+        return summary.toString();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM does not count them.
+     * The difference between two calls on the same thread is the memory allocated in between.
+     */
+    public static long getAllocatedBytesOfCurrentThread() {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String formatMillis(Histogram nanos) {
+        if (nanos.getCount() == 0) {
+            return "n/a";
+        }
+        return String.format("%.2f/%.2f/%.2f", nanos.getValueAtPercentile(50) / 1e6,
+                nanos.getValueAtPercentile(99) / 1e6, nanos.getMax() / 1e6);
+    }
+
+    private static String formatBytes(Histogram bytes) {
+        if (bytes.getCount() == 0) {
+            return "n/a";
+        }
+        return String.format("%.1f KB", bytes.getValueAtPercentile(50) / 1024.0);
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        return allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()
+                ? allocationBean
+                : null;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.flashnotes.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.flashnotes.commons.core.GuiSettings;
@@ -25,6 +26,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the last save of the data, which completes once the data is written or fails with a
+     * {@code CommandException} whose message is to be shown to the user. It is already complete unless the data is
+     * saved in the background. The data is only saved after a command that changed it.
+     */
+    CompletableFuture<Void> getLastSave();
+
+    /**
+     * Returns the result of the last command whose slow part runs in the background, which completes with the
+     * message to show the user once the command has changed the data. Other commands are rejected until then.
+     */
+    CompletableFuture<String> getPendingCommand();
+
+    /** Returns the timings and sizes recorded for the commands executed so far. */
+    CommandMetrics getCommandMetrics();
+
+    /** Returns the commands entered so far, including the commands that failed. */
+    CommandHistory getCommandHistory();
+
+    /**
+     * Returns {@code commandText} with the command word or deck name being typed at its end completed.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    String completeCommand(String commandText);
+
     /**
      * Returns the FlashNotes.
      *
@@ -2,11 +2,17 @@ package seedu.flashnotes.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.flashnotes.commons.core.GuiSettings;
 import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.logic.commands.BackgroundCommand;
+import seedu.flashnotes.logic.commands.BackgroundTask;
 import seedu.flashnotes.logic.commands.Command;
 import seedu.flashnotes.logic.commands.CommandResult;
 import seedu.flashnotes.logic.commands.exceptions.CommandException;
@@ -23,24 +29,79 @@ import seedu.flashnotes.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_RUNNING = "Please wait for the last command to finish.";
+
+    private static final String BACKGROUND_COMMAND_THREAD_NAME = "flashnotes-command";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final FlashNotesParser flashNotesParser;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final CommandHistory commandHistory;
+    private final CommandCompleter commandCompleter;
+    private final boolean isSavingInBackground;
+    private final Executor commandThread;
+    private CompletableFuture<Void> lastSave = CompletableFuture.completedFuture(null);
+    private CompletableFuture<String> pendingCommand = CompletableFuture.completedFuture(null);
+    // Set when the flashcards or decks change, so that the data is only copied and saved when it has changed
+    private volatile boolean hasUnsavedChanges = true;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandHistory());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that adds the commands
+     * it executes to {@code commandHistory}.
+     */
+    public LogicManager(Model model, Storage storage, CommandHistory commandHistory) {
+        this(model, storage, commandHistory, false);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that adds the commands
+     * it executes to {@code commandHistory}. If {@code isSavingInBackground}, the data changed by a command is
+     * written on a background thread after the command returns.
+     */
+    public LogicManager(Model model, Storage storage, CommandHistory commandHistory, boolean isSavingInBackground) {
+        this(model, storage, commandHistory, isSavingInBackground, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} as above. If {@code commandThread} is not null, the slow part of each
+     * {@link BackgroundCommand} runs on a background thread, and its change to the model is made by
+     * {@code commandThread}, which must be the thread that commands are executed on.
+     */
+    public LogicManager(Model model, Storage storage, CommandHistory commandHistory, boolean isSavingInBackground,
+            Executor commandThread) {
         this.model = model;
         this.storage = storage;
-        flashNotesParser = new FlashNotesParser();
+        this.commandHistory = commandHistory;
+        this.isSavingInBackground = isSavingInBackground;
+        this.commandThread = commandThread;
+        flashNotesParser = new FlashNotesParser(commandMetrics);
+        commandCompleter = new CommandCompleter(flashNotesParser.getCommandWords(),
+                model.getFlashNotes().getDeckList());
+        model.getFlashNotes().getFlashcardList().addListener(this::markUnsavedChanges);
+        model.getFlashNotes().getDeckList().addListener(this::markUnsavedChanges);
+    }
+
+    private void markUnsavedChanges(Observable unused) {
+        hasUnsavedChanges = true;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (!pendingCommand.isDone()) {
+            throw new CommandException(MESSAGE_COMMAND_RUNNING);
+        }
+        commandHistory.add(commandText);
 
         CommandResult commandResult;
         boolean isReviewMode = model.getIsReviewMode();
@@ -50,18 +111,168 @@ public class LogicManager implements Logic {
         if (deckName == null) {
             deckName = Model.getDefaultDeckName();
         }
+        long startAllocatedBytes = CommandMetrics.getAllocatedBytesOfCurrentThread();
+        long startTime = System.nanoTime();
         Command command = flashNotesParser.parseCommand(commandText, isReviewMode, isInDeck, deckName);
-        commandResult = command.execute(model);
+        long parsedTime = System.nanoTime();
+        String commandType = command.getClass().getSimpleName();
+        if (commandThread != null && command instanceof BackgroundCommand) {
+            return startInBackground((BackgroundCommand) command, commandText, commandType, parsedTime - startTime,
+                    startAllocatedBytes);
+        }
 
         try {
-            storage.saveFlashNotes(model.getFlashNotes(), model.getUniqueDeckList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } catch (CommandException e) {
+            // Commands may fail after changing some flashcards or decks, those changes are reverted
+            model.rollBackFlashNotes();
+            throw e;
         }
-
+        commitAndSave(commandText, commandType, parsedTime - startTime, System.nanoTime() - parsedTime,
+                getAllocatedBytesSince(startAllocatedBytes));
         return commandResult;
     }
 
+    /**
+     * Runs the slow part of {@code command} on a background thread and makes its change to the model on the
+     * command thread afterwards. Other commands are rejected until then.
+     */
+    private CommandResult startInBackground(BackgroundCommand command, String commandText, String commandType,
+            long parseNanos, long startAllocatedBytes) throws CommandException {
+        long startTime = System.nanoTime();
+        BackgroundCommand.Work work = command.prepare(model);
+        long prepareNanos = System.nanoTime() - startTime;
+        long prepareAllocatedBytes = getAllocatedBytesSince(startAllocatedBytes);
+
+        pendingCommand = CompletableFuture.supplyAsync(() -> {
+            try {
+                return work.run();
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, LogicManager::startBackgroundThread).thenApplyAsync(change -> {
+            try {
+                return finishInBackground(change, commandText, commandType, parseNanos, prepareNanos,
+                        prepareAllocatedBytes);
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, commandThread);
+        return new CommandResult(command.getStartedMessage(), BackgroundTask.of(pendingCommand));
+    }
+
+    /**
+     * Makes the change of a command whose slow part has run in the background, on the command thread.
+     *
+     * @return the message to show the user.
+     */
+    private String finishInBackground(BackgroundCommand.Change change, String commandText, String commandType,
+            long parseNanos, long prepareNanos, long prepareAllocatedBytes) throws CommandException {
+        long startAllocatedBytes = CommandMetrics.getAllocatedBytesOfCurrentThread();
+        long startTime = System.nanoTime();
+        CommandResult commandResult;
+        try {
+            commandResult = change.apply(model);
+        } catch (CommandException e) {
+            model.rollBackFlashNotes();
+            throw e;
+        }
+        // The time and memory taken on the command thread, which is what the user waits for
+        long executeNanos = prepareNanos + System.nanoTime() - startTime;
+        long allocatedBytes = prepareAllocatedBytes < 0
+                ? -1
+                : prepareAllocatedBytes + getAllocatedBytesSince(startAllocatedBytes);
+        commitAndSave(commandText, commandType, parseNanos, executeNanos, allocatedBytes);
+        return commandResult.getFeedbackToUser();
+    }
+
+    private static void startBackgroundThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, BACKGROUND_COMMAND_THREAD_NAME);
+        // Nothing is lost if the app is closed first, as the model is only changed on the command thread
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Commits the changes made by a command, records its metrics and saves the data if it has changed.
+     */
+    private void commitAndSave(String commandText, String commandType, long parseNanos, long executeNanos,
+            long allocatedBytes) throws CommandException {
+        model.commitFlashNotes(commandText.trim());
+        commandMetrics.record(commandType, parseNanos, executeNanos, allocatedBytes,
+                model.getFlashNotes().getFlashcardList().size());
+        logger.fine(() -> String.format("%s parsed in %d us, executed in %d us", commandType, parseNanos / 1000,
+                executeNanos / 1000));
+        if (!hasUnsavedChanges) {
+            return;
+        }
+
+        hasUnsavedChanges = false;
+        long saveStartTime = System.nanoTime();
+        if (isSavingInBackground) {
+            // The save time is only known once the data has been written on the background thread
+            CompletableFuture<Void> save = new CompletableFuture<>();
+            storage.saveFlashNotesInBackground(model.getFlashNotes(), model.getUniqueDeckList())
+                    .whenComplete((unused, error) -> {
+                        if (error != null) {
+                            String message = FILE_OPS_ERROR_MESSAGE + error;
+                            logger.warning(message);
+                            hasUnsavedChanges = true;
+                            save.completeExceptionally(new CommandException(message, error));
+                        } else {
+                            recordSave(commandType, saveStartTime);
+                            save.complete(null);
+                        }
+                    });
+            lastSave = save;
+        } else {
+            try {
+                storage.saveFlashNotes(model.getFlashNotes(), model.getUniqueDeckList());
+            } catch (IOException ioe) {
+                hasUnsavedChanges = true;
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            recordSave(commandType, saveStartTime);
+        }
+    }
+
+    private static long getAllocatedBytesSince(long startAllocatedBytes) {
+        return startAllocatedBytes < 0
+                ? -1
+                : CommandMetrics.getAllocatedBytesOfCurrentThread() - startAllocatedBytes;
+    }
+
+    private void recordSave(String commandType, long saveStartTime) {
+        long saveNanos = System.nanoTime() - saveStartTime;
+        commandMetrics.recordSave(commandType, saveNanos);
+        logger.fine(() -> String.format("%s saved in %d us", commandType, saveNanos / 1000));
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    @Override
+    public CompletableFuture<Void> getLastSave() {
+        return lastSave;
+    }
+
+    @Override
+    public CompletableFuture<String> getPendingCommand() {
+        return pendingCommand;
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
+    @Override
+    public String completeCommand(String commandText) {
+        return commandCompleter.complete(commandText);
+    }
+
     @Override
     public ReadOnlyFlashNotes getFlashNotes() {
         return model.getFlashNotes();
@@ -126,6 +337,8 @@ public class LogicManager implements Logic {
     public void updateDeckPerformanceScore(Double reviewScore) {
         if (!model.getCurrentDeckName().equals(Model.getReservedDeckName())) {
             model.updateDeckPerformanceScore(reviewScore, model.getCurrentDeckName());
+            // The score is kept in the deck, which does not tell the deck list that it has changed
+            hasUnsavedChanges = true;
         }
     }
 
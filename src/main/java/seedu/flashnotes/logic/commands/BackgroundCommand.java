@@ -0,0 +1,56 @@
+package seedu.flashnotes.logic.commands;
+
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+
+/**
+ * A command with a slow part that does not need the model, such as reading a file. In the app, the slow part
+ * runs on a background thread and the model is changed afterwards on the thread that runs commands, so that
+ * the window stays responsive. {@link #execute(Model)} runs all of the command at once.
+ */
+public abstract class BackgroundCommand extends Command {
+
+    public static final String MESSAGE_DATA_CHANGED = "The flashcards were changed by another program while this "
+            + "command was running, so nothing was changed. Please run the command again.";
+
+    /**
+     * The slow part of a command, which may run on a background thread and must not use the model.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Does the slow part of the command and returns the change to make to the model.
+         */
+        Change run() throws CommandException;
+    }
+
+    /**
+     * A change to the model, made on the thread that runs commands once the slow part of a command is done.
+     */
+    @FunctionalInterface
+    public interface Change {
+        /**
+         * Makes the change to {@code model} and returns the result of the command.
+         */
+        CommandResult apply(Model model) throws CommandException;
+    }
+
+    /**
+     * Checks the command against {@code model} and copies what the slow part of the command needs from it,
+     * without changing it.
+     *
+     * @return the slow part of the command.
+     * @throws CommandException If the command cannot be run.
+     */
+    public abstract Work prepare(Model model) throws CommandException;
+
+    /**
+     * Returns the message shown while the slow part of the command runs.
+     */
+    public abstract String getStartedMessage();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return prepare(model).run().apply(model);
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Work started by a command that continues on a background thread after the command has returned,
+ * such as writing a large file. Progress is reported as a fraction between 0 and 1, and the task ends with
+ * a message for the user or fails with an exception.
+ * <p>
+ * Progress listeners and the result are completed on the background thread, so the UI must move
+ * any changes onto its own thread.
+ */
+public class BackgroundTask {
+
+    /** The progress of a task that does not report it, which progress bars show as ongoing. */
+    public static final double UNKNOWN_PROGRESS = -1;
+
+    /** The smallest change in progress that listeners are told about, to avoid flooding the UI. */
+    private static final double PROGRESS_STEP = 0.01;
+
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+    private final List<DoubleConsumer> progressListeners = new CopyOnWriteArrayList<>();
+    private volatile double progress;
+    private double reportedProgress;
+
+    /**
+     * The work done by a background task.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Does the work, reporting progress to {@code task}, and returns the message to show the user.
+         */
+        String run(BackgroundTask task) throws Exception;
+    }
+
+    private BackgroundTask() {}
+
+    /**
+     * Starts {@code work} on a new thread called {@code threadName}.
+     * The thread is not a daemon, so the work is finished even if the app is closed in the meantime.
+     */
+    public static BackgroundTask start(String threadName, Work work) {
+        requireNonNull(threadName);
+        requireNonNull(work);
+        BackgroundTask task = new BackgroundTask();
+        Thread thread = new Thread(() -> {
+            try {
+                task.result.complete(work.run(task));
+            } catch (Exception e) {
+                task.result.completeExceptionally(e);
+            }
+        }, threadName);
+        thread.start();
+        return task;
+    }
+
+    /**
+     * Returns a task that ends with {@code result}, for work that does not report its progress.
+     */
+    public static BackgroundTask of(CompletableFuture<String> result) {
+        requireNonNull(result);
+        BackgroundTask task = new BackgroundTask();
+        task.progress = UNKNOWN_PROGRESS;
+        result.whenComplete((message, error) -> {
+            if (error == null) {
+                task.reportProgress(1, 1);
+                task.result.complete(message);
+            } else {
+                // Later stages of a CompletableFuture wrap the exception that stopped an earlier one
+                task.result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Records that {@code done} out of {@code total} units of work are done.
+     */
+    public void reportProgress(long done, long total) {
+        progress = total == 0 ? 1 : Math.min(1, (double) done / total);
+        if (progress - reportedProgress >= PROGRESS_STEP || (progress == 1 && reportedProgress < 1)) {
+            reportedProgress = progress;
+            progressListeners.forEach(listener -> listener.accept(progress));
+        }
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    /**
+     * Adds a listener that is called on the background thread as the task progresses.
+     */
+    public void addProgressListener(DoubleConsumer listener) {
+        requireNonNull(listener);
+        progressListeners.add(listener);
+    }
+
+    /**
+     * Returns the result of the task, which completes with the message for the user
+     * or with the exception that stopped the task.
+     */
+    public CompletableFuture<String> getResult() {
+        return result;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.flashnotes.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -26,17 +27,26 @@ public class CommandResult {
     /** Go to the next card in the review mode **/
     private final int isNext;
 
+    /** Work that continues after the command has returned, if any. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean startReview,
                          boolean isFlipped, int isNext) {
+        this(feedbackToUser, showHelp, exit, startReview, isFlipped, isNext, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean startReview,
+                          boolean isFlipped, int isNext, BackgroundTask backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.startReview = startReview;
         this.isFlipped = isFlipped;
         this.isNext = isNext;
+        this.backgroundTask = backgroundTask;
     }
 
     /**
@@ -47,6 +57,14 @@ public class CommandResult {
         this(feedbackToUser, false, false, false, false, 0);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} for a command
+     * whose work continues in {@code backgroundTask}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this(feedbackToUser, false, false, false, false, 0, requireNonNull(backgroundTask));
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -71,6 +89,10 @@ public class CommandResult {
         return isNext;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     public boolean isHome() {
         return feedbackToUser.startsWith("Back Home.");
     }
@@ -101,7 +123,8 @@ public class CommandResult {
                 && exit == otherCommandResult.exit
                 && startReview == otherCommandResult.startReview
                 && isFlipped == otherCommandResult.isFlipped
-                && isNext == otherCommandResult.isNext;
+                && isNext == otherCommandResult.isNext
+                && Objects.equals(backgroundTask, otherCommandResult.backgroundTask);
     }
 
     @Override
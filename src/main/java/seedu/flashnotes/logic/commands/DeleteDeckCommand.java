@@ -45,7 +45,7 @@ public class DeleteDeckCommand extends Command {
         requireNonNull(model);
 
         List<Deck> lastShownList = model.getFilteredDeckList();
-        logger.info("List of size " + lastShownList.size() + " retrieved");
+        logger.fine(() -> "List of size " + lastShownList.size() + " retrieved");
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_DECK_DISPLAYED_INDEX);
@@ -96,7 +96,7 @@ public class EditCardCommand extends Command {
 
     /**
      * Creates and returns a {@code Flashcard} with the details of {@code flashcardToEdit}
-     * edited with {@code editFlashcardDescriptor}.
+     * edited with {@code editFlashcardDescriptor}. The edited flashcard keeps the ID of {@code flashcardToEdit}.
      */
     private static Flashcard createEditedFlashcard(Flashcard flashcardToEdit,
                                                    EditFlashcardDescriptor editFlashcardDescriptor) {
@@ -106,7 +106,7 @@ public class EditCardCommand extends Command {
         Answer updatedAnswer = editFlashcardDescriptor.getAnswer().orElse(flashcardToEdit.getAnswer());
         Tag updatedTag = editFlashcardDescriptor.getTag().orElse(flashcardToEdit.getTag());
 
-        return new Flashcard(updatedQuestion, updatedAnswer, updatedTag);
+        return new Flashcard(updatedQuestion, updatedAnswer, updatedTag, flashcardToEdit.getId());
     }
 
     @Override
@@ -3,7 +3,9 @@ package seedu.flashnotes.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_NEW_DECK_NAME;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.flashnotes.commons.core.LogsCenter;
@@ -15,13 +17,15 @@ import seedu.flashnotes.model.deck.Deck;
 import seedu.flashnotes.model.flashcard.Answer;
 import seedu.flashnotes.model.flashcard.Flashcard;
 import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.flashcard.exceptions.DuplicateFlashcardException;
+import seedu.flashnotes.model.flashcard.exceptions.FlashcardNotFoundException;
 import seedu.flashnotes.model.tag.Tag;
-import seedu.flashnotes.model.tag.TagContainsKeywordsPredicate;
 
 /**
  * Edits the deck name and tags of corresponding cards.
+ * The cards to edit are found on a background thread in the app.
  */
-public class EditDeckNameCommand extends Command {
+public class EditDeckNameCommand extends BackgroundCommand {
 
     public static final String COMMAND_WORD = "editDeckName";
 
@@ -33,6 +37,7 @@ public class EditDeckNameCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_NEW_DECK_NAME + "History ";
 
+    public static final String MESSAGE_STARTED = "Renaming deck to %1$s...";
     public static final String MESSAGE_SUCCESS = "Deck edited successfully: %1$s";
     public static final String MESSAGE_DUPLICATE_DECK = "The deck name that you are trying to use already exists. "
             + "Please enter a new deck name.";
@@ -56,7 +61,7 @@ public class EditDeckNameCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
+    public Work prepare(Model model) throws CommandException {
         requireNonNull(model);
         List<Deck> lastShownList = model.getFilteredDeckList();
 
@@ -68,36 +73,64 @@ public class EditDeckNameCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_DECK);
         }
 
-        // Transfer Results Statistics from old deck to new deck
         Deck deckToEdit = lastShownList.get(index.getZeroBased());
+        // The flashcards are only created and those of the deck found on the background thread
+        List<Flashcard> flashcards = model.getFlashNotes().getFlashcardSnapshot();
+        return () -> {
+            Map<Flashcard, Flashcard> editedFlashcards = changeTagOfCards(deckToEdit.getDeckName(),
+                    newDeck.getDeckName(), flashcards);
+            return updatedModel -> editDeck(updatedModel, deckToEdit, editedFlashcards);
+        };
+    }
+
+    @Override
+    public String getStartedMessage() {
+        return String.format(MESSAGE_STARTED, newDeck.getDeckName());
+    }
+
+    private CommandResult editDeck(Model model, Deck deckToEdit, Map<Flashcard, Flashcard> editedFlashcards)
+            throws CommandException {
+        if (model.hasDeck(newDeck)) {
+            throw new CommandException(MESSAGE_DUPLICATE_DECK);
+        }
+        if (!model.hasDeck(deckToEdit)) {
+            throw new CommandException(MESSAGE_DATA_CHANGED);
+        }
+
+        // Transfer Results Statistics from old deck to new deck
         String resultStatistics = deckToEdit.getResultStatistics();
         newDeck.setResultStatistics(resultStatistics);
         model.setDeck(deckToEdit, newDeck);
-        logger.info("Old Deck: " + deckToEdit.getDeckName() + " with stats: " + deckToEdit.getResultStatistics()
+        logger.info(() -> "Old Deck: " + deckToEdit.getDeckName() + " with stats: " + deckToEdit.getResultStatistics()
                 + ". New Deck: " + newDeck.getDeckName() + " with stats: " + newDeck.getResultStatistics());
 
-
-        changeTagOfCards(deckToEdit.getDeckName(), newDeck.getDeckName(), model);
+        if (!editedFlashcards.isEmpty()) {
+            try {
+                // Edited together, so that the flashcard list and the views of it change once
+                model.setFlashcards(editedFlashcards);
+            } catch (FlashcardNotFoundException | DuplicateFlashcardException e) {
+                throw new CommandException(MESSAGE_DATA_CHANGED, e);
+            }
+        }
         model.updateFilteredDeckList(Model.PREDICATE_SHOW_ALL_DECKS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, newDeck.getDeckName()));
-
     }
 
-
     /**
-     * Updates the tags of the cards with the new deck name
+     * Returns the flashcards in {@code flashcards} with the tag {@code deckName}, each mapped to a copy of it
+     * with the tag {@code newDeckName}.
      */
-    private void changeTagOfCards(String deckName, String newDeckName, Model model) {
-        model.updateFilteredFlashcardList(new TagContainsKeywordsPredicate(deckName));
-        List<Flashcard> cardsWithTag = model.getFilteredFlashcardList();
-        if (cardsWithTag.size() > 0) {
-            while (cardsWithTag.size() != 0) {
-                Flashcard flashcardToEdit = cardsWithTag.get(0);
-                Flashcard editedFlashcard = createEditedTagFlashcard(flashcardToEdit, new Tag(newDeckName));
-                model.setFlashcard(flashcardToEdit, editedFlashcard);
+    private Map<Flashcard, Flashcard> changeTagOfCards(String deckName, String newDeckName,
+            List<Flashcard> flashcards) {
+        Tag newTag = Tag.of(newDeckName);
+        Map<Flashcard, Flashcard> editedFlashcards = new LinkedHashMap<>();
+        for (Flashcard flashcardToEdit : flashcards) {
+            if (flashcardToEdit.getTag().tagName.equals(deckName)) {
+                editedFlashcards.put(flashcardToEdit, createEditedTagFlashcard(flashcardToEdit, newTag));
             }
         }
+        return editedFlashcards;
     }
 
     private Flashcard createEditedTagFlashcard(Flashcard flashcardToEdit, Tag editedTag) {
@@ -106,7 +139,7 @@ public class EditDeckNameCommand extends Command {
         Question question = flashcardToEdit.getQuestion();
         Answer answer = flashcardToEdit.getAnswer();
 
-        return new Flashcard(question, answer, editedTag);
+        return new Flashcard(question, answer, editedTag, flashcardToEdit.getId());
     }
 
     @Override
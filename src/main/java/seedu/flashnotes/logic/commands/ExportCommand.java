@@ -0,0 +1,158 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_DECK_NAME;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.commons.util.CsvUtil;
+import seedu.flashnotes.commons.util.FileUtil;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Flashcard;
+
+/**
+ * Exports flashcards to a CSV file, or to a tab-separated text file that Anki can import if the file ends in
+ * {@code .tsv} or {@code .txt}. Either file can be imported again with {@link ImportCommand}.
+ * <p>
+ * Exports the flashcards of one deck if a deck is given, otherwise the flashcards listed in the current deck,
+ * or all flashcards in the main mode. The file is written on a background thread, so that the app stays
+ * responsive while a large library is exported.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports flashcards to a CSV file, or to a tab-separated file for Anki if FILE_PATH ends in .txt "
+            + "or .tsv. Exports the given deck, the listed flashcards in a deck, or all flashcards.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_DECK_NAME + "DECK_NAME]\n"
+            + "Example: " + COMMAND_WORD + " data/biology.csv " + PREFIX_DECK_NAME + "Biology";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d flashcard(s) to %2$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d flashcard(s) to %2$s in %3$.1f ms.";
+    public static final String MESSAGE_WRITE_ERROR = "Could not export flashcards to %1$s: %2$s";
+    public static final String MESSAGE_DECK_NOT_FOUND = "There is no deck named %1$s.";
+
+    public static final String CSV_HEADER = "question,answer,deck";
+    /** Tells Anki how to read the file, see the "Importing" section of the Anki manual. */
+    public static final List<String> ANKI_HEADER = Arrays.asList("#separator:tab", "#html:false", "#deck column:3");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path filePath;
+    private final String deckName;
+
+    /**
+     * Creates a command that exports the listed flashcards, or all flashcards in the main mode,
+     * to the file at {@code filePath}.
+     */
+    public ExportCommand(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a command that exports the flashcards of the deck {@code deckName} to the file at {@code filePath}.
+     * If {@code deckName} is null, exports the listed flashcards instead, or all flashcards in the main mode.
+     */
+    public ExportCommand(Path filePath, String deckName) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.deckName = deckName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // Only the references are copied, so that later commands cannot change what is being written
+        List<Flashcard> toExport;
+        if (deckName != null) {
+            if (!model.hasDeck(new Deck(deckName))) {
+                throw new CommandException(String.format(MESSAGE_DECK_NOT_FOUND, deckName));
+            }
+            toExport = model.getFlashNotes().getFlashcardList().stream()
+                    .filter(flashcard -> flashcard.getTag().tagName.equals(deckName))
+                    .collect(Collectors.toList());
+        } else if (model.getIsInDeck()) {
+            toExport = new ArrayList<>(model.getFilteredFlashcardList());
+        } else {
+            toExport = new ArrayList<>(model.getFlashNotes().getFlashcardList());
+        }
+
+        BackgroundTask backgroundTask = BackgroundTask.start("flashnotes-export", task -> write(toExport, task));
+        return new CommandResult(String.format(MESSAGE_STARTED, toExport.size(), filePath), backgroundTask);
+    }
+
+    /**
+     * Writes {@code flashcards} to a temporary file that replaces the export file once it is complete,
+     * so that a failed export does not leave a partly written file behind.
+     *
+     * @return the message to show the user.
+     */
+    private String write(List<Flashcard> flashcards, BackgroundTask task) throws CommandException {
+        long startTime = System.nanoTime();
+        char delimiter = CsvUtil.getDelimiter(filePath);
+        Path tempFile = FileUtil.getTempFile(filePath);
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, TRUNCATE_EXISTING, WRITE);
+                 Writer writer = new BufferedWriter(Channels.newWriter(channel, UTF_8.newEncoder(), BUFFER_SIZE),
+                         BUFFER_SIZE)) {
+                for (String headerLine : delimiter == CsvUtil.TAB ? ANKI_HEADER : List.of(CSV_HEADER)) {
+                    writer.write(headerLine);
+                    writer.write('\n');
+                }
+                for (int i = 0; i < flashcards.size(); i++) {
+                    Flashcard flashcard = flashcards.get(i);
+                    writer.write(CsvUtil.formatRecord(Arrays.asList(flashcard.getQuestion().question,
+                            flashcard.getAnswer().value, flashcard.getTag().tagName), delimiter));
+                    writer.write('\n');
+                    task.reportProgress(i + 1, flashcards.size());
+                }
+            }
+            FileUtil.replaceFile(tempFile, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to export flashcards to " + filePath + ": " + e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteException) {
+                logger.warning("Failed to delete " + tempFile + ": " + deleteException);
+            }
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+        }
+
+        task.reportProgress(flashcards.size(), flashcards.size());
+        double elapsedMillis = (System.nanoTime() - startTime) / 1e6;
+        logger.info(String.format("Exported %d flashcards to %s in %.1f ms", flashcards.size(), filePath,
+                elapsedMillis));
+        return String.format(MESSAGE_SUCCESS, flashcards.size(), filePath, elapsedMillis);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && Objects.equals(deckName, ((ExportCommand) other).deckName)); // state check
+    }
+}
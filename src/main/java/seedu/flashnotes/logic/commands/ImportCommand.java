@@ -0,0 +1,258 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.commons.util.CsvUtil;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.flashcard.exceptions.DuplicateFlashcardException;
+import seedu.flashnotes.model.tag.Tag;
+
+/**
+ * Imports flashcards from a CSV or TSV file, one flashcard per row with the columns QUESTION, ANSWER and an
+ * optional DECK. Files ending in {@code .tsv} or {@code .txt} are read as tab-separated, other files as
+ * comma-separated. A first row of {@code question, answer} is treated as a header and skipped, as are the
+ * {@code #key:value} lines at the start of files exported from Anki.
+ * <p>
+ * The file is read one row at a time, on a background thread in the app. Rows that are invalid or duplicate an
+ * existing flashcard are rejected and reported, while the other rows are added together once the whole file has
+ * been read, creating any decks that do not exist yet.
+ */
+public class ImportCommand extends BackgroundCommand {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports flashcards from a CSV or TSV file with the columns QUESTION, ANSWER and an optional DECK. "
+            + "Rows without a deck are added to the current deck, or to the Default deck.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/vocabulary.csv";
+
+    public static final String MESSAGE_STARTED = "Importing flashcards from %1$s...";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d flashcard(s) and %2$d new deck(s) from %3$s "
+            + "(%4$d row(s) in %5$.1f ms, %6$.0f rows/s).";
+    public static final String MESSAGE_REJECTED_ROWS = "\n%1$d row(s) were not imported:";
+    public static final String MESSAGE_REJECTED_ROW = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "\n...and %1$d more, see the log for details.";
+    public static final String MESSAGE_READ_ERROR = "Could not read import file %1$s, no flashcards were imported: "
+            + "%2$s";
+
+    public static final String MESSAGE_WRONG_COLUMN_COUNT = "Expected QUESTION, ANSWER and an optional DECK "
+            + "but found %1$d column(s).";
+    public static final String MESSAGE_DUPLICATE_FLASHCARD = "This flashcard already exists in the flashnotes.";
+
+    /** The number of rejected rows listed in the result, the rest are only logged. */
+    public static final int MAX_REJECTED_ROWS_SHOWN = 10;
+
+    /** Written at the start of CSV files by some spreadsheet programs. */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final Pattern FILE_HEADER_LINE_PATTERN = Pattern.compile("#[a-z ]+:.*");
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a command that imports the flashcards in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Work prepare(Model model) {
+        requireNonNull(model);
+        String defaultDeckName = model.getIsInDeck() && model.getCurrentDeckName() != null
+                && !model.getCurrentDeckName().equals(Model.getReservedDeckName())
+                ? model.getCurrentDeckName()
+                : Model.getDefaultDeckName();
+        // The flashcards are only created and hashed on the background thread
+        List<Flashcard> existingFlashcards = model.getFlashNotes().getFlashcardSnapshot();
+        Set<String> existingDeckNames = new HashSet<>();
+        for (Deck deck : model.getFlashNotes().getDeckList()) {
+            existingDeckNames.add(deck.getDeckName());
+        }
+        return () -> read(defaultDeckName, existingFlashcards, existingDeckNames);
+    }
+
+    @Override
+    public String getStartedMessage() {
+        return String.format(MESSAGE_STARTED, filePath);
+    }
+
+    /**
+     * Reads the file and returns the change that adds its valid rows to the model.
+     */
+    private Change read(String defaultDeckName, List<Flashcard> existingFlashcards, Set<String> existingDeckNames)
+            throws CommandException {
+        // Hashing the existing flashcards once keeps each row's duplicate check constant-time
+        Set<Flashcard> seenFlashcards = new HashSet<>(existingFlashcards);
+
+        List<Flashcard> toAdd = new ArrayList<>();
+        Set<String> newDeckNames = new LinkedHashSet<>();
+        List<String> rejectedRows = new ArrayList<>();
+        int rowCount = 0;
+        boolean isAtStart = true;
+        long startTime = System.nanoTime();
+
+        char delimiter = CsvUtil.getDelimiter(filePath);
+        try (LineNumberReader reader = new LineNumberReader(Files.newBufferedReader(filePath, UTF_8))) {
+            while (true) {
+                int lineNumber = reader.getLineNumber() + 1;
+                List<String> fields = CsvUtil.readRecord(reader, delimiter);
+                if (fields == null) {
+                    break;
+                }
+                if (lineNumber == 1 && fields.get(0).startsWith(BYTE_ORDER_MARK)) {
+                    fields.set(0, fields.get(0).substring(BYTE_ORDER_MARK.length()));
+                }
+                if (isBlankRow(fields)) {
+                    continue;
+                }
+                if (isAtStart && (isFileHeaderLine(fields) || isHeaderRow(fields))) {
+                    continue;
+                }
+                isAtStart = false;
+                rowCount++;
+
+                String deckName = fields.size() > 2 && !fields.get(2).isBlank()
+                        ? fields.get(2).trim()
+                        : defaultDeckName;
+                String rejectionReason = getRejectionReason(fields, deckName);
+                Flashcard flashcard = rejectionReason == null ? toFlashcard(fields, deckName) : null;
+                if (flashcard != null && !seenFlashcards.add(flashcard)) {
+                    rejectionReason = MESSAGE_DUPLICATE_FLASHCARD;
+                }
+                if (rejectionReason != null) {
+                    String rejectedRow = String.format(MESSAGE_REJECTED_ROW, lineNumber, rejectionReason);
+                    logger.fine(() -> "Rejected row of " + filePath + ":" + rejectedRow.replace('\n', ' '));
+                    rejectedRows.add(rejectedRow);
+                    continue;
+                }
+
+                toAdd.add(flashcard);
+                if (!existingDeckNames.contains(deckName)) {
+                    newDeckNames.add(deckName);
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        int readRowCount = rowCount;
+        return model -> add(model, toAdd, newDeckNames, readRowCount, rejectedRows, startTime);
+    }
+
+    /**
+     * Adds the flashcards read from the file and their new decks to {@code model}.
+     */
+    private CommandResult add(Model model, List<Flashcard> toAdd, Set<String> newDeckNames, int rowCount,
+            List<String> rejectedRows, long startTime) throws CommandException {
+        try {
+            for (String deckName : newDeckNames) {
+                // The deck may have been added by another program while the file was read
+                if (!model.hasDeck(new Deck(deckName))) {
+                    model.addDeck(new Deck(deckName));
+                }
+            }
+            model.addFlashcards(toAdd);
+        } catch (DuplicateFlashcardException e) {
+            throw new CommandException(MESSAGE_DATA_CHANGED, e);
+        }
+
+        double elapsedMillis = (System.nanoTime() - startTime) / 1e6;
+        double rowsPerSecond = elapsedMillis == 0 ? 0 : rowCount / (elapsedMillis / 1000);
+        logger.info(String.format("Imported %d of %d rows of %s in %.1f ms", toAdd.size(), rowCount, filePath,
+                elapsedMillis));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), newDeckNames.size(), filePath,
+                rowCount, elapsedMillis, rowsPerSecond) + getRejectedRowsMessage(rejectedRows));
+    }
+
+    private static boolean isBlankRow(List<String> fields) {
+        return fields.stream().allMatch(String::isBlank);
+    }
+
+    /**
+     * Returns true if {@code fields} is a {@code #key:value} line, such as {@code #separator:tab},
+     * of the kind written at the start of files exported from Anki.
+     */
+    private static boolean isFileHeaderLine(List<String> fields) {
+        return fields.size() == 1 && FILE_HEADER_LINE_PATTERN.matcher(fields.get(0)).matches();
+    }
+
+    private static boolean isHeaderRow(List<String> fields) {
+        return fields.size() >= 2 && fields.get(0).trim().equalsIgnoreCase("question")
+                && fields.get(1).trim().equalsIgnoreCase("answer");
+    }
+
+    /**
+     * Returns why the row with {@code fields} cannot be imported into the deck {@code deckName},
+     * or null if it is valid.
+     */
+    private static String getRejectionReason(List<String> fields, String deckName) {
+        if (fields.size() < 2 || fields.size() > 3) {
+            return String.format(MESSAGE_WRONG_COLUMN_COUNT, fields.size());
+        }
+        String question = fields.get(0).trim();
+        if (!Question.isValidQuestion(question)) {
+            return String.format(Question.MESSAGE_CONSTRAINTS, question.length());
+        }
+        String answer = fields.get(1).trim();
+        if (!Answer.isValidAnswer(answer)) {
+            return String.format(Answer.MESSAGE_CONSTRAINTS, answer.length());
+        }
+        if (!Deck.isValidDeckLength(deckName)) {
+            return String.format(Deck.MESSAGE_CONSTRAINTS_LENGTH, deckName.length());
+        }
+        if (!Deck.isValidDeckReservedName(deckName)) {
+            return Deck.MESSAGE_CONSTRAINTS_RESERVED;
+        }
+        if (!Tag.isValidTagName(deckName)) {
+            return Tag.MESSAGE_CONSTRAINTS;
+        }
+        return null;
+    }
+
+    private static Flashcard toFlashcard(List<String> fields, String deckName) {
+        return new Flashcard(new Question(fields.get(0).trim()), new Answer(fields.get(1).trim()), Tag.of(deckName));
+    }
+
+    private static String getRejectedRowsMessage(List<String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return "";
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_REJECTED_ROWS, rejectedRows.size()));
+        rejectedRows.stream().limit(MAX_REJECTED_ROWS_SHOWN).forEach(message::append);
+        if (rejectedRows.size() > MAX_REJECTED_ROWS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_REJECTED_ROWS, rejectedRows.size() - MAX_REJECTED_ROWS_SHOWN));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+}
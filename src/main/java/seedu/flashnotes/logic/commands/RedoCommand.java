@@ -0,0 +1,36 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+
+/**
+ * Applies again the changes to the flashcards and decks that were last reverted by {@link UndoCommand}.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Applies again the last command that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid: %1$s";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is nothing to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoFlashNotes()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        String description = model.redoFlashNotes();
+        return UndoCommand.createResult(model, String.format(MESSAGE_SUCCESS, description));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || (other instanceof RedoCommand);
+    }
+}
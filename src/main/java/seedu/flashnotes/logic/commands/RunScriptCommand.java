@@ -0,0 +1,181 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.flashnotes.model.Model.PREDICATE_SHOW_ALL_DECKS;
+import static seedu.flashnotes.model.Model.PREDICATE_SHOW_ALL_FLASHCARDS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.logic.parser.FlashNotesParser;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.tag.TagContainsKeywordsPredicate;
+
+/**
+ * Runs the commands in a script file one after another, as if they were entered one by one.
+ * If any command fails, every change made by the script is rolled back. As the script runs as a single command,
+ * the data file is saved only once, after the whole script has run.
+ * <p>
+ * Scripts may move between the main mode and decks, but the app is returned to the mode and deck it was in
+ * when the script was started. Lines that are blank or start with {@value #COMMENT_PREFIX} are skipped.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "runScript";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one command per line. If any command fails, none of them take effect.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/import.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s in %3$.1f ms.";
+    public static final String MESSAGE_COMMAND_TIMING = "\n%1$s: %2$d in %3$.1f ms";
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_LINE_ERROR = "Script stopped at line %1$d (%2$s), no changes were made:\n%3$s";
+    public static final String MESSAGE_UNAVAILABLE_IN_SCRIPT = "This command cannot be used in a script.";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(RunScriptCommand.class);
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a command that runs the script at {@code scriptPath}.
+     */
+    public RunScriptCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ModelSnapshot snapshot = new ModelSnapshot(model);
+        FlashNotesParser parser = new FlashNotesParser();
+        Map<String, long[]> timingsByCommandWord = new LinkedHashMap<>();
+        int commandCount = 0;
+        int lineNumber = 0;
+        long startTime = System.nanoTime();
+
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                long commandStartTime = System.nanoTime();
+                try {
+                    Command command = parseLine(parser, commandText, model);
+                    command.execute(model);
+                } catch (CommandException | ParseException e) {
+                    snapshot.restore(model);
+                    throw new CommandException(String.format(MESSAGE_LINE_ERROR, lineNumber, commandText,
+                            e.getMessage()), e);
+                }
+                long elapsedNanos = System.nanoTime() - commandStartTime;
+                int commandLineNumber = lineNumber;
+                logger.fine(() -> String.format("Script line %d (%s) took %d us", commandLineNumber, commandText,
+                        elapsedNanos / 1000));
+
+                String commandWord = commandText.split("\\s+", 2)[0];
+                long[] timing = timingsByCommandWord.computeIfAbsent(commandWord, word -> new long[2]);
+                timing[0]++;
+                timing[1] += elapsedNanos;
+                commandCount++;
+            }
+        } catch (IOException e) {
+            snapshot.restore(model);
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, e.getMessage()), e);
+        }
+
+        snapshot.restoreMode(model);
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, commandCount, scriptPath,
+                (System.nanoTime() - startTime) / 1e6));
+        timingsByCommandWord.forEach((commandWord, timing) ->
+                feedback.append(String.format(MESSAGE_COMMAND_TIMING, commandWord, timing[0], timing[1] / 1e6)));
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Parses a line of the script in the current mode of {@code model}.
+     * Commands that need the UI or would start another script are rejected, and so is export, which writes its
+     * file in the background where a failure could not stop the script and the rollback could not undo it.
+     */
+    private static Command parseLine(FlashNotesParser parser, String commandText, Model model)
+            throws ParseException {
+        String deckName = model.getCurrentDeckName();
+        if (deckName == null) {
+            deckName = Model.getDefaultDeckName();
+        }
+        Command command = parser.parseCommand(commandText, model.getIsReviewMode(), model.getIsInDeck(), deckName);
+        if (command instanceof RunScriptCommand || command instanceof ReviewCommand
+                || command instanceof ExitCommand || command instanceof HelpCommand
+                || command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof StatsCommand || command instanceof ExportCommand) {
+            throw new ParseException(MESSAGE_UNAVAILABLE_IN_SCRIPT);
+        }
+        return command;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && scriptPath.equals(((RunScriptCommand) other).scriptPath)); // state check
+    }
+
+    /**
+     * The state of a model before a script is run, which the model can be rolled back to.
+     */
+    private static class ModelSnapshot {
+        private final boolean isInDeck;
+        private final String currentDeckName;
+        private final long reviewCardLimit;
+
+        ModelSnapshot(Model model) {
+            isInDeck = model.getIsInDeck();
+            currentDeckName = model.getCurrentDeckName();
+            reviewCardLimit = model.getReviewCardLimit();
+        }
+
+        /**
+         * Rolls {@code model} back to this snapshot. The flashcards and decks are rolled back by reverting the
+         * changes made to them since the last commit, so the snapshot does not need a copy of them.
+         */
+        void restore(Model model) {
+            model.rollBackFlashNotes();
+            model.setReviewCardLimit(reviewCardLimit);
+            restoreMode(model);
+        }
+
+        /**
+         * Returns {@code model} to the mode and deck of this snapshot, showing all decks or all flashcards of the deck.
+         */
+        void restoreMode(Model model) {
+            model.updateFilteredDeckList(PREDICATE_SHOW_ALL_DECKS);
+            if (!isInDeck) {
+                model.setIsInDeckFalse();
+                return;
+            }
+            model.setIsInDeckTrue();
+            model.setCurrentDeckName(currentDeckName);
+            if (currentDeckName.equals(Model.getReservedDeckName())) {
+                model.updateFilteredFlashcardList(PREDICATE_SHOW_ALL_FLASHCARDS);
+            } else {
+                model.updateFilteredFlashcardList(new TagContainsKeywordsPredicate(currentDeckName));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.flashnotes.logic.CommandMetrics;
+import seedu.flashnotes.model.Model;
+
+/**
+ * Shows how long each type of command has taken to run since the app was started.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each type of command has taken since FlashNotes was started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a command that shows the metrics recorded in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandMetrics.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandMetrics == ((StatsCommand) other).commandMetrics); // state check
+    }
+}
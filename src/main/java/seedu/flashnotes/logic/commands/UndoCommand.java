@@ -0,0 +1,55 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.flashnotes.commons.core.Messages;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.deck.Deck;
+
+/**
+ * Reverts the changes to the flashcards and decks made by the last command that changed them.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the last command that changed flashcards or decks.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid: %1$s";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is nothing to undo.";
+    public static final String MESSAGE_CURRENT_DECK_REMOVED = Messages.MESSAGE_DECK_OVERVIEW
+            + " The deck you were in no longer exists.\n%1$s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoFlashNotes()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        String description = model.undoFlashNotes();
+        return createResult(model, String.format(MESSAGE_SUCCESS, description));
+    }
+
+    /**
+     * Returns the result of undoing or redoing a step with {@code feedback}. If the step removed the deck that the
+     * user is in, the user is taken back to the list of decks.
+     */
+    static CommandResult createResult(Model model, String feedback) {
+        model.updateFilteredDeckList(Model.PREDICATE_SHOW_ALL_DECKS);
+        String currentDeckName = model.getCurrentDeckName();
+        if (currentDeckName == null || currentDeckName.equals(Model.getReservedDeckName())
+                || model.hasDeck(new Deck(currentDeckName))) {
+            return new CommandResult(feedback);
+        }
+        model.setIsInDeckFalse();
+        return new CommandResult(String.format(MESSAGE_CURRENT_DECK_REMOVED, feedback));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || (other instanceof UndoCommand);
+    }
+}
@@ -50,7 +50,7 @@ public class AddCardCommandParser implements Parser<AddCardCommand> {
 
         Question question = ParserUtil.parseQuestion(argMultimap.getValue(PREFIX_QUESTION).get());
         Answer answer = ParserUtil.parseAnswer(argMultimap.getValue(PREFIX_ANSWER).get());
-        Tag tag = new Tag(deckName);
+        Tag tag = Tag.of(deckName);
 
         Flashcard flashcard = new Flashcard(question, answer, tag);
 
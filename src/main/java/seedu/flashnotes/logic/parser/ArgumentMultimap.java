@@ -30,16 +30,8 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
-
-        if (argMultimapCounter.get(prefix) == null) {
-            argMultimapCounter.put(prefix, 1);
-        } else {
-            int count = argMultimapCounter.get(prefix) + 1;
-            argMultimapCounter.put(prefix, count);
-        }
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(argValue);
+        argMultimapCounter.merge(prefix, 1, Integer::sum);
     }
 
     /**
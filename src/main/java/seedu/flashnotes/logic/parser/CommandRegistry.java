@@ -0,0 +1,119 @@
+package seedu.flashnotes.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.flashnotes.logic.commands.Command;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps each command word to how its arguments are parsed in each mode of the app, or to the error shown
+ * when the command is used in a mode it is not available in.
+ * <p>
+ * Each command is registered once, so finding how to parse a command is a single lookup by its command word.
+ */
+class CommandRegistry {
+
+    /**
+     * The modes of the app, in which different commands are available.
+     */
+    enum Mode {
+        /** Browsing the list of decks. */
+        MAIN,
+        /** Inside a deck, browsing its flashcards. */
+        CARD,
+        /** Reviewing the flashcards of a deck. */
+        REVIEW
+    }
+
+    /**
+     * Creates the command for the arguments that follow its command word.
+     */
+    @FunctionalInterface
+    interface CommandFactory {
+        /**
+         * Returns the command for {@code arguments}.
+         *
+         * @param deckName the name of the deck the user is in, or null if the user is not in a deck.
+         * @throws ParseException if {@code arguments} are not valid for the command.
+         */
+        Command create(String arguments, String deckName) throws ParseException;
+    }
+
+    private static final int MODE_COUNT = Mode.values().length;
+
+    private final Map<String, CommandFactory[]> factoriesByCommandWord = new HashMap<>();
+
+    /**
+     * Registers the command with {@code commandWord}. The modes it is available in and the errors for the other
+     * modes are added to the returned {@code Registration}. Modes that are left out treat it as an unknown command.
+     */
+    Registration register(String commandWord) {
+        requireNonNull(commandWord);
+        if (factoriesByCommandWord.containsKey(commandWord)) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+        CommandFactory[] factories = new CommandFactory[MODE_COUNT];
+        factoriesByCommandWord.put(commandWord, factories);
+        return new Registration(factories);
+    }
+
+    /**
+     * Returns the command for {@code commandWord} with {@code arguments} in {@code mode}.
+     *
+     * @throws ParseException if the command word is unknown, the command is not available in {@code mode}
+     *     or its arguments are not valid.
+     */
+    Command parse(String commandWord, String arguments, Mode mode, String deckName) throws ParseException {
+        CommandFactory[] factories = factoriesByCommandWord.get(commandWord);
+        CommandFactory factory = factories == null ? null : factories[mode.ordinal()];
+        if (factory == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return factory.create(arguments, deckName);
+    }
+
+    /**
+     * Returns the registered command words.
+     */
+    Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(factoriesByCommandWord.keySet());
+    }
+
+    /**
+     * Adds the modes a command is available in, and the errors shown in the modes it is not available in.
+     */
+    static class Registration {
+        private final CommandFactory[] factories;
+
+        private Registration(CommandFactory[] factories) {
+            this.factories = factories;
+        }
+
+        /**
+         * Makes the command available in {@code modes}, where it is created by {@code factory}.
+         */
+        Registration in(CommandFactory factory, Mode... modes) {
+            requireNonNull(factory);
+            for (Mode mode : modes) {
+                factories[mode.ordinal()] = factory;
+            }
+            return this;
+        }
+
+        /**
+         * Makes the command show {@code message} as an error when it is used in {@code modes}.
+         */
+        Registration unavailableIn(String message, Mode... modes) {
+            requireNonNull(message);
+            return in((arguments, deckName) -> {
+                throw new ParseException(message);
+            }, modes);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.flashnotes.logic.parser;
+
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashnotes.logic.parser.CliSyntax.PREFIX_DECK_NAME;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.flashnotes.commons.util.FileUtil;
+import seedu.flashnotes.logic.commands.ExportCommand;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DECK_NAME);
+
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> deckName = argMultimap.getValue(PREFIX_DECK_NAME);
+        if (deckName.isEmpty()) {
+            return new ExportCommand(Paths.get(filePath));
+        }
+        return new ExportCommand(Paths.get(filePath), ParserUtil.parseDeckName(deckName.get()).getDeckName());
+    }
+
+}
@@ -1,5 +1,6 @@
 package seedu.flashnotes.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.commons.core.Messages.INVALID_ADDCARD_COMMAND_IN_HOME_MESSAGE;
 import static seedu.flashnotes.commons.core.Messages.INVALID_ADDCARD_COMMAND_IN_REVIEW_MESSAGE;
 import static seedu.flashnotes.commons.core.Messages.INVALID_ADDDECK_COMMAND_IN_DECK_MESSAGE;
@@ -40,11 +41,14 @@ import static seedu.flashnotes.commons.core.Messages.MESSAGE_ALREADY_IN_REVIEW_M
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_EXTENDED_COMMAND_ERROR;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNAVAILABLE_IN_REVIEW_MODE;
-import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.CARD;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.MAIN;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.REVIEW;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import seedu.flashnotes.logic.CommandMetrics;
 import seedu.flashnotes.logic.commands.AddCardCommand;
 import seedu.flashnotes.logic.commands.AddDeckCommand;
 import seedu.flashnotes.logic.commands.CheckReviewLimitCommand;
@@ -58,15 +62,23 @@ import seedu.flashnotes.logic.commands.EditDeckNameCommand;
 import seedu.flashnotes.logic.commands.EndReviewCommand;
 import seedu.flashnotes.logic.commands.EnterDeckCommand;
 import seedu.flashnotes.logic.commands.ExitCommand;
+import seedu.flashnotes.logic.commands.ExportCommand;
 import seedu.flashnotes.logic.commands.FindCommand;
 import seedu.flashnotes.logic.commands.FlipCommand;
 import seedu.flashnotes.logic.commands.HelpCommand;
 import seedu.flashnotes.logic.commands.HomeCommand;
+import seedu.flashnotes.logic.commands.ImportCommand;
 import seedu.flashnotes.logic.commands.ListAllCommand;
 import seedu.flashnotes.logic.commands.ListCommand;
+import seedu.flashnotes.logic.commands.RedoCommand;
 import seedu.flashnotes.logic.commands.ReviewCommand;
+import seedu.flashnotes.logic.commands.RunScriptCommand;
 import seedu.flashnotes.logic.commands.SetReviewLimitCommand;
+import seedu.flashnotes.logic.commands.StatsCommand;
+import seedu.flashnotes.logic.commands.UndoCommand;
 import seedu.flashnotes.logic.commands.WrongCommand;
+import seedu.flashnotes.logic.parser.CommandRegistry.CommandFactory;
+import seedu.flashnotes.logic.parser.CommandRegistry.Mode;
 import seedu.flashnotes.logic.parser.exceptions.ParseException;
 
 /**
@@ -74,11 +86,19 @@ import seedu.flashnotes.logic.parser.exceptions.ParseException;
  */
 public class FlashNotesParser {
 
+    private final CommandRegistry commandRegistry;
+
+    public FlashNotesParser() {
+        this(new CommandMetrics());
+    }
 
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser whose {@code stats} commands show the metrics in {@code commandMetrics}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public FlashNotesParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        commandRegistry = createCommandRegistry(commandMetrics);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -89,394 +109,171 @@ public class FlashNotesParser {
      */
     public Command parseCommand(String userInput, boolean isReviewMode, boolean isInDeck, String deckName)
             throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        // The command word runs up to the first whitespace, and the arguments are everything after it
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
+        final Mode mode;
         if (isReviewMode) {
             assert isInDeck : "Program should be in card mode before entering review mode";
-            return parseCommandInReviewMode(commandWord, arguments);
-        }
-
-        if (!isInDeck) {
-            assert !isReviewMode : "Program should not be in review mode";
-            return parseCommandInMainMode(commandWord, arguments);
+            mode = REVIEW;
         } else {
-            assert !isReviewMode : "Program should not be in review mode";
-            return parseCommandInCardMode(commandWord, arguments, deckName);
-        }
-    }
-
-
-    private Command parseCommandInReviewMode(String commandWord, String arguments) throws ParseException {
-        switch (commandWord) {
-        case AddCardCommand.COMMAND_WORD:
-        case EditCardCommand.COMMAND_WORD:
-        case DeleteCardCommand.COMMAND_WORD:
-        case AddDeckCommand.COMMAND_WORD:
-        case EnterDeckCommand.COMMAND_WORD:
-        case ListAllCommand.COMMAND_WORD:
-        case ClearCommand.COMMAND_WORD:
-        case FindCommand.COMMAND_WORD:
-        case SetReviewLimitCommand.COMMAND_WORD:
-        case CheckReviewLimitCommand.COMMAND_WORD:
-        case ExitCommand.COMMAND_WORD:
-        case DeleteDeckCommand.COMMAND_WORD:
-        case EditDeckNameCommand.COMMAND_WORD:
-        case HomeCommand.COMMAND_WORD:
-        case ReviewCommand.COMMAND_WORD:
-        case ListCommand.COMMAND_WORD:
-            return parseInvalidCommandInReviewMode(commandWord);
-
-        case FlipCommand.COMMAND_WORD:
-            // There should be no arguments for flip command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, FlipCommand.COMMAND_WORD));
-            }
-            return new FlipCommand();
-
-        case CorrectCommand.COMMAND_WORD:
-            // There should be no arguments for correct command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, CorrectCommand.COMMAND_WORD));
-            }
-            return new CorrectCommand();
-
-        case WrongCommand.COMMAND_WORD:
-            // There should be no arguments for wrong command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, WrongCommand.COMMAND_WORD));
-            }
-            return new WrongCommand();
-
-        case EndReviewCommand.COMMAND_WORD:
-            // There should be no arguments for endReview command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, EndReviewCommand.COMMAND_WORD));
-            }
-            return new EndReviewCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            // There should be no arguments for help command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, HelpCommand.COMMAND_WORD));
-            }
-            return new HelpCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            mode = isInDeck ? CARD : MAIN;
         }
+        return commandRegistry.parse(commandWord, arguments, mode, deckName);
     }
 
-    private Command parseInvalidCommandInReviewMode(
-            String commandWord) throws ParseException {
-
-        switch (commandWord) {
-
-        case AddCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ADDCARD_COMMAND_IN_REVIEW_MESSAGE);
-
-        case EditCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_EDITCARD_COMMAND_IN_REVIEW_MESSAGE);
-
-        case DeleteCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_DELETECARD_COMMAND_IN_REVIEW_MESSAGE);
-
-        case ClearCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_CLEAR_COMMAND_IN_REVIEW_MESSAGE);
-
-        case FindCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_FIND_COMMAND_IN_REVIEW_MESSAGE);
-
-        case CheckReviewLimitCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_CHECKREVIEWLIMIT_COMMAND_IN_REVIEW_MESSAGE);
-
-        case SetReviewLimitCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_SETREVIEWLIMIT_COMMAND_IN_REVIEW_MESSAGE);
-
-        case EnterDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ENTERDECK_COMMAND_IN_REVIEW_MESSAGE);
-
-        case ListAllCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_LISTALL_COMMAND_IN_REVIEW_MESSAGE);
-
-        case AddDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ADDDECK_COMMAND_IN_REVIEW_MESSAGE);
-
-        case ExitCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_EXIT_COMMAND_IN_REVIEW_MESSAGE);
-
-        case DeleteDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_DELETEDECK_COMMAND_IN_REVIEW_MESSAGE);
-
-        case EditDeckNameCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_EDITDECKNAME_COMMAND_IN_REVIEW_MESSAGE);
-
-        case HomeCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_HOME_COMMAND_IN_REVIEW_MESSAGE);
-
-        case ReviewCommand.COMMAND_WORD:
-            throw new ParseException(MESSAGE_ALREADY_IN_REVIEW_MODE);
-
-        case ListCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_LIST_COMMAND_IN_REVIEW_MESSAGE);
-
-        default:
-            throw new ParseException(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE);
-        }
+    /**
+     * Returns the command words of all the commands.
+     */
+    public Set<String> getCommandWords() {
+        return commandRegistry.getCommandWords();
     }
 
-    private Command parseCommandInMainMode(
-            String commandWord, String arguments) throws ParseException {
-        switch (commandWord) {
-        case AddCardCommand.COMMAND_WORD:
-        case EditCardCommand.COMMAND_WORD:
-        case DeleteCardCommand.COMMAND_WORD:
-        case FindCommand.COMMAND_WORD:
-        case ReviewCommand.COMMAND_WORD:
-        case FlipCommand.COMMAND_WORD:
-        case CorrectCommand.COMMAND_WORD:
-        case WrongCommand.COMMAND_WORD:
-        case EndReviewCommand.COMMAND_WORD:
-        case HomeCommand.COMMAND_WORD:
-        case ListCommand.COMMAND_WORD:
-            return parseInvalidCommandInMainMode(commandWord);
-
-        case AddDeckCommand.COMMAND_WORD:
-            return new AddDeckCommandParser().parse(arguments);
-
-        case DeleteDeckCommand.COMMAND_WORD:
-            return new DeleteDeckCommandParser().parse(arguments);
-
-        case EnterDeckCommand.COMMAND_WORD:
-            return new EnterDeckCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            // There should be no arguments for exit command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ExitCommand.COMMAND_WORD));
-            }
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            // There should be no arguments for help command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, HelpCommand.COMMAND_WORD));
-            }
-            return new HelpCommand();
-
-        case ListAllCommand.COMMAND_WORD:
-            // There should be no arguments for listAll command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ListAllCommand.COMMAND_WORD));
-            }
-            return new ListAllCommand();
-
-        case ClearCommand.COMMAND_WORD:
-            // There should be no arguments for clear command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ClearCommand.COMMAND_WORD));
-            }
-            return new ClearCommand();
-
-        case EditDeckNameCommand.COMMAND_WORD:
-            return new EditDeckNameCommandParser().parse(arguments);
-
-        case SetReviewLimitCommand.COMMAND_WORD:
-            return new SetReviewLimitCommandParser().parse(arguments);
-
-        case CheckReviewLimitCommand.COMMAND_WORD:
-            // There should be no arguments for clear command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR,
-                        CheckReviewLimitCommand.COMMAND_WORD));
-            }
-            return new CheckReviewLimitCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    /**
+     * Registers every command, with the modes it is available in and the error shown in the other modes.
+     */
+    private static CommandRegistry createCommandRegistry(CommandMetrics commandMetrics) {
+        CommandRegistry registry = new CommandRegistry();
+
+        // Commands for the decks in main mode
+        registry.register(AddDeckCommand.COMMAND_WORD)
+                .in(parsedBy(new AddDeckCommandParser()), MAIN)
+                .unavailableIn(INVALID_ADDDECK_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_ADDDECK_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(DeleteDeckCommand.COMMAND_WORD)
+                .in(parsedBy(new DeleteDeckCommandParser()), MAIN)
+                .unavailableIn(INVALID_DELETEDECK_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_DELETEDECK_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(EditDeckNameCommand.COMMAND_WORD)
+                .in(parsedBy(new EditDeckNameCommandParser()), MAIN)
+                .unavailableIn(INVALID_EDITDECKNAME_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_EDITDECKNAME_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(EnterDeckCommand.COMMAND_WORD)
+                .in(parsedBy(new EnterDeckCommandParser()), MAIN)
+                .unavailableIn(INVALID_ENTERDECK_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_ENTERDECK_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(ListAllCommand.COMMAND_WORD)
+                .in(withoutArguments(ListAllCommand.COMMAND_WORD, ListAllCommand::new), MAIN)
+                .unavailableIn(INVALID_LISTALL_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_LISTALL_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(ClearCommand.COMMAND_WORD)
+                .in(withoutArguments(ClearCommand.COMMAND_WORD, ClearCommand::new), MAIN)
+                .unavailableIn(INVALID_CLEAR_COMMAND_IN_DECK_MESSAGE, CARD)
+                .unavailableIn(INVALID_CLEAR_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+
+        // Commands for the flashcards in card mode
+        AddCardCommandParser addCardCommandParser = new AddCardCommandParser();
+        registry.register(AddCardCommand.COMMAND_WORD)
+                .in(addCardCommandParser::parse, CARD)
+                .unavailableIn(INVALID_ADDCARD_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_ADDCARD_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(EditCardCommand.COMMAND_WORD)
+                .in(parsedBy(new EditCardCommandParser()), CARD)
+                .unavailableIn(INVALID_EDITCARD_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_EDITCARD_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(DeleteCardCommand.COMMAND_WORD)
+                .in(parsedBy(new DeleteCardCommandParser()), CARD)
+                .unavailableIn(INVALID_DELETECARD_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_DELETECARD_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(FindCommand.COMMAND_WORD)
+                .in(parsedBy(new FindCommandParser()), CARD)
+                .unavailableIn(INVALID_FIND_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_FIND_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(ListCommand.COMMAND_WORD)
+                .in(withoutArguments(ListCommand.COMMAND_WORD, ListCommand::new), CARD)
+                .unavailableIn(INVALID_LIST_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_LIST_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(HomeCommand.COMMAND_WORD)
+                .in(withoutArguments(HomeCommand.COMMAND_WORD, HomeCommand::new), CARD)
+                .unavailableIn(INVALID_HOME_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_HOME_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(ReviewCommand.COMMAND_WORD)
+                .in(withoutArguments(ReviewCommand.COMMAND_WORD, ReviewCommand::new), CARD)
+                .unavailableIn(INVALID_REVIEW_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(MESSAGE_ALREADY_IN_REVIEW_MODE, REVIEW);
+
+        // Commands for the review session in review mode
+        registry.register(FlipCommand.COMMAND_WORD)
+                .in(withoutArguments(FlipCommand.COMMAND_WORD, FlipCommand::new), REVIEW)
+                .unavailableIn(INVALID_FLIP_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_FLIP_COMMAND_IN_DECK_MESSAGE, CARD);
+        registry.register(CorrectCommand.COMMAND_WORD)
+                .in(withoutArguments(CorrectCommand.COMMAND_WORD, CorrectCommand::new), REVIEW)
+                .unavailableIn(INVALID_CORRECT_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_CORRECT_COMMAND_IN_DECK_MESSAGE, CARD);
+        registry.register(WrongCommand.COMMAND_WORD)
+                .in(withoutArguments(WrongCommand.COMMAND_WORD, WrongCommand::new), REVIEW)
+                .unavailableIn(INVALID_WRONG_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_WRONG_COMMAND_IN_DECK_MESSAGE, CARD);
+        registry.register(EndReviewCommand.COMMAND_WORD)
+                .in(withoutArguments(EndReviewCommand.COMMAND_WORD, EndReviewCommand::new), REVIEW)
+                .unavailableIn(INVALID_ENDREVIEW_COMMAND_IN_HOME_MESSAGE, MAIN)
+                .unavailableIn(INVALID_ENDREVIEW_COMMAND_IN_DECK_MESSAGE, CARD);
+
+        // Commands for both main mode and card mode
+        registry.register(SetReviewLimitCommand.COMMAND_WORD)
+                .in(parsedBy(new SetReviewLimitCommandParser()), MAIN, CARD)
+                .unavailableIn(INVALID_SETREVIEWLIMIT_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(CheckReviewLimitCommand.COMMAND_WORD)
+                .in(withoutArguments(CheckReviewLimitCommand.COMMAND_WORD, CheckReviewLimitCommand::new), MAIN, CARD)
+                .unavailableIn(INVALID_CHECKREVIEWLIMIT_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(ExitCommand.COMMAND_WORD)
+                .in(withoutArguments(ExitCommand.COMMAND_WORD, ExitCommand::new), MAIN, CARD)
+                .unavailableIn(INVALID_EXIT_COMMAND_IN_REVIEW_MESSAGE, REVIEW);
+        registry.register(RunScriptCommand.COMMAND_WORD)
+                .in(parsedBy(new RunScriptCommandParser()), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+        registry.register(ImportCommand.COMMAND_WORD)
+                .in(parsedBy(new ImportCommandParser()), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+        registry.register(ExportCommand.COMMAND_WORD)
+                .in(parsedBy(new ExportCommandParser()), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+        registry.register(UndoCommand.COMMAND_WORD)
+                .in(withoutArguments(UndoCommand.COMMAND_WORD, UndoCommand::new), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+        registry.register(RedoCommand.COMMAND_WORD)
+                .in(withoutArguments(RedoCommand.COMMAND_WORD, RedoCommand::new), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+        registry.register(StatsCommand.COMMAND_WORD)
+                .in(withoutArguments(StatsCommand.COMMAND_WORD, () -> new StatsCommand(commandMetrics)), MAIN, CARD)
+                .unavailableIn(MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, REVIEW);
+
+        // Commands for every mode
+        registry.register(HelpCommand.COMMAND_WORD)
+                .in(withoutArguments(HelpCommand.COMMAND_WORD, HelpCommand::new), MAIN, CARD, REVIEW);
+
+        return registry;
     }
 
-    private Command parseInvalidCommandInMainMode(
-            String commandWord) throws ParseException {
-
-        switch (commandWord) {
-        case AddCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ADDCARD_COMMAND_IN_HOME_MESSAGE);
-
-        case EditCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_EDITCARD_COMMAND_IN_HOME_MESSAGE);
-
-        case DeleteCardCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_DELETECARD_COMMAND_IN_HOME_MESSAGE);
-
-        case FindCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_FIND_COMMAND_IN_HOME_MESSAGE);
-
-        case ReviewCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_REVIEW_COMMAND_IN_HOME_MESSAGE);
-
-        case CorrectCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_CORRECT_COMMAND_IN_HOME_MESSAGE);
-
-        case FlipCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_FLIP_COMMAND_IN_HOME_MESSAGE);
-
-        case HomeCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_HOME_COMMAND_IN_HOME_MESSAGE);
-
-        case WrongCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_WRONG_COMMAND_IN_HOME_MESSAGE);
-
-        case EndReviewCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ENDREVIEW_COMMAND_IN_HOME_MESSAGE);
-
-        case ListCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_LIST_COMMAND_IN_HOME_MESSAGE);
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    /**
+     * Returns a factory that creates its command with {@code parser}, which does not need the name of the deck.
+     */
+    private static CommandFactory parsedBy(Parser<?> parser) {
+        return (arguments, deckName) -> parser.parse(arguments);
     }
 
-    private Command parseCommandInCardMode(
-            String commandWord, String arguments, String deckName) throws ParseException {
-
-        switch (commandWord) {
-        case AddDeckCommand.COMMAND_WORD:
-        case ClearCommand.COMMAND_WORD:
-        case CorrectCommand.COMMAND_WORD:
-        case DeleteDeckCommand.COMMAND_WORD:
-        case EnterDeckCommand.COMMAND_WORD:
-        case FlipCommand.COMMAND_WORD:
-        case ListAllCommand.COMMAND_WORD:
-        case EndReviewCommand.COMMAND_WORD:
-        case WrongCommand.COMMAND_WORD:
-        case EditDeckNameCommand.COMMAND_WORD:
-            return parseInvalidCommandInDeckMode(commandWord);
-
-        case AddCardCommand.COMMAND_WORD:
-            return new AddCardCommandParser().parse(arguments, deckName);
-
-        case DeleteCardCommand.COMMAND_WORD:
-            return new DeleteCardCommandParser().parse(arguments);
-
-        case EditCardCommand.COMMAND_WORD:
-            return new EditCardCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            // There should be no arguments for exit command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ExitCommand.COMMAND_WORD));
-            }
-            return new ExitCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case HelpCommand.COMMAND_WORD:
-            // There should be no arguments for help command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, HelpCommand.COMMAND_WORD));
-            }
-            return new HelpCommand();
-
-        case HomeCommand.COMMAND_WORD:
-            // There should be no arguments for clear command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, HomeCommand.COMMAND_WORD));
-            }
-            return new HomeCommand();
-
-        case ReviewCommand.COMMAND_WORD:
-            // There should be no arguments for review command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ReviewCommand.COMMAND_WORD));
-            }
-            return new ReviewCommand();
-
-        case SetReviewLimitCommand.COMMAND_WORD:
-            return new SetReviewLimitCommandParser().parse(arguments);
-
-        case CheckReviewLimitCommand.COMMAND_WORD:
-            // There should be no arguments for clear command
-            if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR,
-                        CheckReviewLimitCommand.COMMAND_WORD));
-            }
-            return new CheckReviewLimitCommand();
-
-        case ListCommand.COMMAND_WORD:
-            // There should be no arguments for list command
+    /**
+     * Returns a factory for a command that takes no arguments.
+     * The factory throws a {@code ParseException} if there are any arguments.
+     */
+    private static CommandFactory withoutArguments(String commandWord, Supplier<Command> command) {
+        return (arguments, deckName) -> {
             if (hasArguments(arguments)) {
-                // If arguments exist, throw ParseException
-                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, ListCommand.COMMAND_WORD));
+                throw new ParseException(String.format(MESSAGE_EXTENDED_COMMAND_ERROR, commandWord));
             }
-            return new ListCommand();
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
-    }
-
-    private Command parseInvalidCommandInDeckMode(
-            String commandWord) throws ParseException {
-
-        switch (commandWord) {
-        case AddDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ADDDECK_COMMAND_IN_DECK_MESSAGE);
-
-        case ClearCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_CLEAR_COMMAND_IN_DECK_MESSAGE);
-
-        case CorrectCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_CORRECT_COMMAND_IN_DECK_MESSAGE);
-
-        case DeleteDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_DELETEDECK_COMMAND_IN_DECK_MESSAGE);
-
-        case EnterDeckCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ENTERDECK_COMMAND_IN_DECK_MESSAGE);
-
-        case FlipCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_FLIP_COMMAND_IN_DECK_MESSAGE);
-
-        case ListAllCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_LISTALL_COMMAND_IN_DECK_MESSAGE);
-
-        case EndReviewCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_ENDREVIEW_COMMAND_IN_DECK_MESSAGE);
-
-        case WrongCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_WRONG_COMMAND_IN_DECK_MESSAGE);
-
-        case EditDeckNameCommand.COMMAND_WORD:
-            throw new ParseException(INVALID_EDITDECKNAME_COMMAND_IN_DECK_MESSAGE);
-
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-
-        }
+            return command.get();
+        };
     }
 
     /**
@@ -485,11 +282,15 @@ public class FlashNotesParser {
      * @param arguments arguments string from user input
      * @return true if string is contains anything beside whitespace, false otherwise
      */
-    private boolean hasArguments(String arguments) {
-        if (!arguments.isBlank()) {
-            return true;
-        } else {
-            return false;
-        }
+    private static boolean hasArguments(String arguments) {
+        return !arguments.isBlank();
+    }
+
+    /**
+     * Returns true if {@code c} is one of the whitespace characters that separate the command word from the
+     * arguments, the same characters as {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
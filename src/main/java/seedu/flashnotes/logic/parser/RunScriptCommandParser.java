@@ -0,0 +1,29 @@
+package seedu.flashnotes.logic.parser;
+
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.flashnotes.commons.util.FileUtil;
+import seedu.flashnotes.logic.commands.RunScriptCommand;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+        return new RunScriptCommand(Paths.get(trimmedArgs));
+    }
+
+}
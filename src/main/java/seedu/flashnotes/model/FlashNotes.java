@@ -3,13 +3,19 @@ package seedu.flashnotes.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.flashnotes.model.deck.Deck;
 import seedu.flashnotes.model.deck.UniqueDeckList;
 import seedu.flashnotes.model.flashcard.Flashcard;
 import seedu.flashnotes.model.flashcard.UniqueFlashcardList;
+import seedu.flashnotes.model.history.EditHistory;
 import seedu.flashnotes.model.tag.Tag;
 
 /**
@@ -24,31 +30,46 @@ public class FlashNotes implements ReadOnlyFlashNotes {
     private boolean isInDeck;
     private String currentDeckName;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
+    public FlashNotes() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty FlashNotes. If {@code isCompact}, flashcards are stored in a compact form
+     * meant for very large libraries (see {@link UniqueFlashcardList#UniqueFlashcardList(boolean)}).
      */
-    {
-        flashcards = new UniqueFlashcardList();
+    public FlashNotes(boolean isCompact) {
+        flashcards = new UniqueFlashcardList(isCompact);
         decks = new UniqueDeckList();
         isReviewMode = false;
         isInDeck = false;
         currentDeckName = null;
     }
 
-    public FlashNotes() {}
-
     /**
      * Creates an FlashNotes using the Flashcards in the {@code toBeCopied}
      */
     public FlashNotes(ReadOnlyFlashNotes toBeCopied) {
-        this();
+        this(toBeCopied, false);
+    }
+
+    /**
+     * Creates an FlashNotes using the Flashcards in the {@code toBeCopied}, stored compactly if {@code isCompact}.
+     */
+    public FlashNotes(ReadOnlyFlashNotes toBeCopied, boolean isCompact) {
+        this(isCompact);
         resetData(toBeCopied);
     }
 
+    /**
+     * Makes the flashcard and deck lists record their edits in {@code editHistory} from now on,
+     * or stop recording them if it is null.
+     */
+    public void setEditHistory(EditHistory editHistory) {
+        flashcards.setEditHistory(editHistory);
+        decks.setEditHistory(editHistory);
+    }
+
     //// list overwrite operations
 
     /**
@@ -78,6 +99,43 @@ public class FlashNotes implements ReadOnlyFlashNotes {
         setDecks(newData.getDeckList());
     }
 
+    /**
+     * Brings this {@code FlashNotes} in line with {@code newData} by applying only the differences:
+     * flashcards and decks that are missing from {@code newData} are removed, new ones are added and decks
+     * whose statistics changed are replaced. Flashcards and decks that are unchanged are left untouched.
+     */
+    public void syncWith(ReadOnlyFlashNotes newData) {
+        requireNonNull(newData);
+
+        Set<Flashcard> newFlashcards = new HashSet<>(newData.getFlashcardList());
+        Set<Flashcard> currentFlashcards = new HashSet<>(getFlashcardList());
+        flashcards.applyAsOneChange(() -> {
+            flashcards.removeAll(currentFlashcards.stream()
+                    .filter(flashcard -> !newFlashcards.contains(flashcard))
+                    .collect(Collectors.toList()));
+            flashcards.addAll(newData.getFlashcardList().stream()
+                    .filter(flashcard -> !currentFlashcards.contains(flashcard))
+                    .collect(Collectors.toList()));
+        });
+
+        Set<Deck> newDecks = new HashSet<>(newData.getDeckList());
+        decks.applyAsOneChange(() -> {
+            for (Deck deck : new ArrayList<>(getDeckList())) {
+                if (!newDecks.contains(deck)) {
+                    decks.remove(deck);
+                }
+            }
+            for (Deck newDeck : newData.getDeckList()) {
+                Deck currentDeck = decks.findDeck(newDeck.getDeckName());
+                if (currentDeck == null) {
+                    decks.add(newDeck);
+                } else if (!currentDeck.getResultStatistics().equals(newDeck.getResultStatistics())) {
+                    decks.setDeck(currentDeck, newDeck);
+                }
+            }
+        });
+    }
+
     //// flashcard-level operations
 
     /**
@@ -88,6 +146,14 @@ public class FlashNotes implements ReadOnlyFlashNotes {
         return flashcards.contains(flashcard);
     }
 
+    /**
+     * Returns the flashcard with the given ID in the flashnotes, or null if there is none.
+     * Flashcards are looked up by their ID without comparing their contents.
+     */
+    public Flashcard findFlashcard(int id) {
+        return flashcards.findFlashcard(id);
+    }
+
     /**
      * Adds a flashcard to the flashnotes.
      * The flashcard must not already exist in the flashnotes.
@@ -96,6 +162,14 @@ public class FlashNotes implements ReadOnlyFlashNotes {
         flashcards.add(card);
     }
 
+    /**
+     * Adds all of {@code cards} to the flashnotes at once.
+     * None of the flashcards may already exist in the flashnotes, and {@code cards} must not contain duplicates.
+     */
+    public void addFlashcards(Collection<Flashcard> cards) {
+        flashcards.addAll(cards);
+    }
+
     /**
      * Replaces the given flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the flashnotes.
@@ -108,6 +182,17 @@ public class FlashNotes implements ReadOnlyFlashNotes {
         flashcards.setFlashcard(target, editedFlashcard);
     }
 
+    /**
+     * Replaces each flashcard that is a key of {@code editedFlashcards} with its value, notifying the flashcard
+     * list once. Every key must exist in the flashnotes, and the flashnotes must not contain duplicate flashcards
+     * afterwards.
+     */
+    public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireNonNull(editedFlashcards);
+
+        flashcards.setFlashcards(editedFlashcards);
+    }
+
     /**
      * Removes {@code key} from this {@code FlashNotes}.
      * {@code key} must exist in the flashnotes.
@@ -121,16 +206,14 @@ public class FlashNotes implements ReadOnlyFlashNotes {
      * @param tag
      */
     public void removeFlashcardByTag(Tag tag) {
-        ArrayList<Flashcard> toBeRemoved = new ArrayList<>();
+        List<Flashcard> toBeRemoved = new ArrayList<>();
         for (Flashcard flashcard : flashcards) {
             if (flashcard.getTag().equals(tag)) {
                 toBeRemoved.add(flashcard);
             }
         }
 
-        for (int i = 0; i < toBeRemoved.size(); i++) {
-            removeFlashcard(toBeRemoved.get(i));
-        }
+        flashcards.removeAll(toBeRemoved);
     }
 
 
@@ -168,7 +251,7 @@ public class FlashNotes implements ReadOnlyFlashNotes {
      * {@code keyDeck} must exist in the flashnotes.
      */
     public void removeDeck(Deck keyDeck) {
-        removeFlashcardByTag(new Tag(keyDeck.getDeckName()));
+        removeFlashcardByTag(Tag.of(keyDeck.getDeckName()));
         decks.remove(keyDeck);
     }
 
@@ -250,6 +333,11 @@ public class FlashNotes implements ReadOnlyFlashNotes {
         return flashcards.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Flashcard> getFlashcardSnapshot() {
+        return flashcards.getSnapshot();
+    }
+
     @Override
     public ObservableList<Deck> getDeckList() {
         return decks.asUnmodifiableObservableList();
@@ -1,6 +1,8 @@
 package seedu.flashnotes.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -63,6 +65,42 @@ public interface Model {
      */
     void setFlashNotes(ReadOnlyFlashNotes flashNotes);
 
+    /**
+     * Updates flashnotes data to match {@code flashNotes}, changing only the flashcards and decks that differ.
+     */
+    void syncFlashNotes(ReadOnlyFlashNotes flashNotes);
+
+    /**
+     * Saves the changes made to the flashcards and decks since the last commit as one step of the undo history,
+     * described by {@code description}. Does nothing if nothing changed.
+     */
+    void commitFlashNotes(String description);
+
+    /**
+     * Reverts the changes made to the flashcards and decks since the last commit.
+     */
+    void rollBackFlashNotes();
+
+    /** Returns true if there is a committed step that can be undone. */
+    boolean canUndoFlashNotes();
+
+    /**
+     * Reverts the last committed step. There must be a step to undo and no uncommitted changes.
+     *
+     * @return the description of the step.
+     */
+    String undoFlashNotes();
+
+    /** Returns true if there is an undone step that can be redone. */
+    boolean canRedoFlashNotes();
+
+    /**
+     * Applies the last undone step again. There must be a step to redo and no uncommitted changes.
+     *
+     * @return the description of the step.
+     */
+    String redoFlashNotes();
+
     /** Returns the FlashNotes */
     ReadOnlyFlashNotes getFlashNotes();
 
@@ -125,7 +163,12 @@ public interface Model {
     boolean hasFlashcard(Flashcard flashcard);
 
     /**
-     * Deletes the given flashcard.
+     * Returns the flashcard with the given ID in the flashnotes, or null if there is none.
+     */
+    Flashcard findFlashcard(int id);
+
+    /**
+     * Deletes the given flashcard, which is looked up by its ID.
      * The flashcard must exist in the flashnotes.
      */
     void deleteFlashcard(Flashcard target);
@@ -137,13 +180,27 @@ public interface Model {
     void addFlashcard(Flashcard flashcard);
 
     /**
-     * Replaces the given flashcard {@code target} with {@code editedFlashcard}.
+     * Adds all of the given flashcards, notifying the flashcard list once.
+     * None of {@code flashcards} may already exist in the flashnotes,
+     * and {@code flashcards} must not contain duplicates.
+     */
+    void addFlashcards(Collection<Flashcard> flashcards);
+
+    /**
+     * Replaces the given flashcard {@code target}, which is looked up by its ID, with {@code editedFlashcard}.
      * {@code target} must exist in the flashnotes.
      * The flashcard identity of {@code editedFlashcard} must not be the same
      * as another existing flashcard in the flashnotes.
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
+    /**
+     * Replaces each flashcard that is a key of {@code editedFlashcards} with its value, notifying the flashcard
+     * list once. Every key must exist in the flashnotes, and the flashnotes must not contain duplicate flashcards
+     * afterwards.
+     */
+    void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards);
+
     /** Returns an unmodifiable view of the filtered flashcard list */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,14 +17,17 @@ import seedu.flashnotes.commons.core.LogsCenter;
 import seedu.flashnotes.model.deck.Deck;
 import seedu.flashnotes.model.deck.UniqueDeckList;
 import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.history.EditHistory;
 
 /**
  * Represents the in-memory model of the flashnotes data.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final String SYNC_STEP_DESCRIPTION = "changes made to the data file outside FlashNotes";
 
     private final FlashNotes flashNotes;
+    private final EditHistory editHistory = new EditHistory();
     private final UserPrefs userPrefs;
     private final FilteredList<Flashcard> filteredFlashcards;
     private FilteredList<Flashcard> flashcardsToReview;
@@ -36,13 +41,15 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(flashNotes, userPrefs);
 
-        logger.fine("Initializing with flashnotes: " + flashNotes + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with flashnotes: " + flashNotes + " and user prefs " + userPrefs);
 
-        this.flashNotes = new FlashNotes(flashNotes);
+        this.flashNotes = new FlashNotes(flashNotes, userPrefs.getIsFlashcardStoreCompact());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredFlashcards = new FilteredList<>(this.flashNotes.getFlashcardList());
         flashcardsToReview = new FilteredList<>(this.flashNotes.getFlashcardList());
         filteredDecks = new FilteredList<>(this.flashNotes.getDeckList());
+        // Starts recording only now, so that the data the app starts with is not a step that can be undone
+        this.flashNotes.setEditHistory(editHistory);
     }
 
     public ModelManager() {
@@ -102,11 +109,53 @@ public class ModelManager implements Model {
         this.flashNotes.resetData(flashNotes);
     }
 
+    @Override
+    public void syncFlashNotes(ReadOnlyFlashNotes flashNotes) {
+        requireNonNull(flashNotes);
+        this.flashNotes.syncWith(flashNotes);
+        commitFlashNotes(SYNC_STEP_DESCRIPTION);
+    }
+
     @Override
     public ReadOnlyFlashNotes getFlashNotes() {
         return flashNotes;
     }
 
+    @Override
+    public void commitFlashNotes(String description) {
+        requireNonNull(description);
+        editHistory.commit(description);
+    }
+
+    @Override
+    public void rollBackFlashNotes() {
+        editHistory.rollBack();
+    }
+
+    @Override
+    public boolean canUndoFlashNotes() {
+        return editHistory.canUndo();
+    }
+
+    @Override
+    public String undoFlashNotes() {
+        String description = editHistory.undo();
+        logger.fine(() -> "Undid: " + description);
+        return description;
+    }
+
+    @Override
+    public boolean canRedoFlashNotes() {
+        return editHistory.canRedo();
+    }
+
+    @Override
+    public String redoFlashNotes() {
+        String description = editHistory.redo();
+        logger.fine(() -> "Redid: " + description);
+        return description;
+    }
+
     //=========== Decks ================================================================================
 
     @Override
@@ -193,6 +242,11 @@ public class ModelManager implements Model {
         return flashNotes.hasFlashcard(flashcard);
     }
 
+    @Override
+    public Flashcard findFlashcard(int id) {
+        return flashNotes.findFlashcard(id);
+    }
+
     @Override
     public void deleteFlashcard(Flashcard target) {
         flashNotes.removeFlashcard(target);
@@ -203,6 +257,11 @@ public class ModelManager implements Model {
         flashNotes.addFlashcard(flashcard);
     }
 
+    @Override
+    public void addFlashcards(Collection<Flashcard> flashcards) {
+        flashNotes.addFlashcards(flashcards);
+    }
+
     @Override
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
@@ -210,6 +269,13 @@ public class ModelManager implements Model {
         flashNotes.setFlashcard(target, editedFlashcard);
     }
 
+    @Override
+    public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireNonNull(editedFlashcards);
+
+        flashNotes.setFlashcards(editedFlashcards);
+    }
+
     //=========== Filtered Flashcard List Accessors =============================================================
 
     /**
@@ -1,5 +1,7 @@
 package seedu.flashnotes.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.flashnotes.model.deck.Deck;
 import seedu.flashnotes.model.flashcard.Flashcard;
@@ -15,6 +17,12 @@ public interface ReadOnlyFlashNotes {
      */
     ObservableList<Flashcard> getFlashcardList();
 
+    /**
+     * Returns an unmodifiable copy of the flashcards list that later changes do not affect.
+     * It is cheap to make, as no flashcards are created until it is read, so it can be handed to another thread.
+     */
+    List<Flashcard> getFlashcardSnapshot();
+
     /**
      * Returns an unmodifiable view of the deck list.
      * This list will not contain any duplicate decks.
@@ -14,4 +14,14 @@ public interface ReadOnlyUserPrefs {
     Path getFlashNotesFilePath();
 
     long getReviewCardLimit();
+
+    /**
+     * Returns true if the FlashNotes data file should be saved gzip-compressed.
+     */
+    boolean getIsFlashNotesFileCompressed();
+
+    /**
+     * Returns true if flashcards should be kept in memory in the compact, column-oriented form.
+     */
+    boolean getIsFlashcardStoreCompact();
 }
@@ -17,6 +17,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path flashNotesFilePath = Paths.get("data" , "flashnotes.json");
     private long reviewCardLimit = DEFAULT_CARD_LIMIT;
+    private boolean isFlashNotesFileCompressed = false;
+    private boolean isFlashcardStoreCompact = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +41,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setFlashNotesFilePath(newUserPrefs.getFlashNotesFilePath());
         setReviewCardLimit(newUserPrefs.getReviewCardLimit());
+        setIsFlashNotesFileCompressed(newUserPrefs.getIsFlashNotesFileCompressed());
+        setIsFlashcardStoreCompact(newUserPrefs.getIsFlashcardStoreCompact());
     }
 
     public GuiSettings getGuiSettings() {
@@ -68,6 +72,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.reviewCardLimit = reviewCardLimit;
     }
 
+    public boolean getIsFlashNotesFileCompressed() {
+        return isFlashNotesFileCompressed;
+    }
+
+    public void setIsFlashNotesFileCompressed(boolean isFlashNotesFileCompressed) {
+        this.isFlashNotesFileCompressed = isFlashNotesFileCompressed;
+    }
+
+    public boolean getIsFlashcardStoreCompact() {
+        return isFlashcardStoreCompact;
+    }
+
+    public void setIsFlashcardStoreCompact(boolean isFlashcardStoreCompact) {
+        this.isFlashcardStoreCompact = isFlashcardStoreCompact;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +100,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && flashNotesFilePath.equals(o.flashNotesFilePath);
+                && flashNotesFilePath.equals(o.flashNotesFilePath)
+                && isFlashNotesFileCompressed == o.isFlashNotesFileCompressed
+                && isFlashcardStoreCompact == o.isFlashcardStoreCompact;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, flashNotesFilePath);
+        return Objects.hash(guiSettings, flashNotesFilePath, isFlashNotesFileCompressed, isFlashcardStoreCompact);
     }
 
     @Override
@@ -93,6 +115,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + flashNotesFilePath);
+        sb.append("\nLocal data file compressed : " + isFlashNotesFileCompressed);
+        sb.append("\nCompact flashcard store : " + isFlashcardStoreCompact);
         return sb.toString();
     }
 
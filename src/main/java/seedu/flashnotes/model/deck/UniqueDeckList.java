@@ -2,13 +2,21 @@ package seedu.flashnotes.model.deck;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.flashnotes.commons.core.BatchedObservableList;
 import seedu.flashnotes.model.deck.exceptions.DeckNotFoundException;
 import seedu.flashnotes.model.deck.exceptions.DuplicateDeckException;
+import seedu.flashnotes.model.history.EditHistory;
 
 /**
  * A list of decks that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +26,80 @@ import seedu.flashnotes.model.deck.exceptions.DuplicateDeckException;
  * However, the removal of a deck uses Deck#equals(Object) so
  * as to ensure that the deck with exactly the same fields will be removed.
  *
+ * Decks are also kept by name, so a deck is found, or found to be missing, without going through the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Deck#isSameDeck(Deck)
  */
 public class UniqueDeckList implements Iterable<Deck> {
 
-    private final ObservableList<Deck> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Deck> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchedObservableList<Deck> internalList = BatchedObservableList.observableArrayList();
+    private final ObservableList<Deck> internalUnmodifiableList;
+    private final Map<String, Deck> decksByName = new HashMap<>();
+    /** True while this list changes its internal list itself, updating {@code decksByName} as it goes. */
+    private boolean isEditing;
+    private EditHistory editHistory;
+
+    /**
+     * Creates an empty list.
+     */
+    public UniqueDeckList() {
+        // The names are updated by each edit, so that they are up to date within a batch of edits too. Undoing and
+        // redoing edits changes the list directly, so a listener, added first, updates them for those changes.
+        internalList.addListener(this::updateDecksByName);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    private void updateDecksByName(ListChangeListener.Change<? extends Deck> change) {
+        if (isEditing) {
+            return;
+        }
+        // All removals are applied before any addition, as a batched change may remove and add decks of one name
+        while (change.next()) {
+            change.getRemoved().forEach(this::forget);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::remember);
+        }
+    }
+
+    private void remember(Deck deck) {
+        decksByName.put(deck.getDeckName(), deck);
+    }
+
+    private void forget(Deck deck) {
+        decksByName.remove(deck.getDeckName(), deck);
+    }
+
+    /**
+     * Makes {@code edit} to the internal list, which must update {@code decksByName} itself.
+     */
+    private void edit(Runnable edit) {
+        boolean wasEditing = isEditing;
+        isEditing = true;
+        try {
+            edit.run();
+        } finally {
+            isEditing = wasEditing;
+        }
+    }
+
+    /**
+     * Makes the list record its edits in {@code editHistory} from now on, or stop recording them if it is null.
+     */
+    public void setEditHistory(EditHistory editHistory) {
+        this.editHistory = editHistory;
+    }
 
     /**
      * Returns true if the list contains an equivalent deck as the given argument.
      */
     public boolean contains(Deck toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeck);
+        // Decks with the same name are the same deck
+        return decksByName.containsKey(toCheck.getDeckName());
     }
 
     /**
@@ -43,9 +109,7 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public Deck findDeck(String deck) {
         requireNonNull(deck);
-        return internalList.stream().filter(finding -> deck.equals(finding.getDeckName()))
-                .findFirst()
-                .orElse(null);
+        return decksByName.get(deck);
     }
 
     /**
@@ -57,7 +121,9 @@ public class UniqueDeckList implements Iterable<Deck> {
         if (contains(toAdd)) {
             throw new DuplicateDeckException();
         }
-        internalList.add(toAdd);
+        recordEdit(internalList.size(), List.of(), List.of(toAdd));
+        edit(() -> internalList.add(toAdd));
+        remember(toAdd);
     }
 
     /**
@@ -77,7 +143,11 @@ public class UniqueDeckList implements Iterable<Deck> {
             throw new DuplicateDeckException();
         }
 
-        internalList.set(index, editedDeck);
+        Deck replaced = internalList.get(index);
+        edit(() -> internalList.set(index, editedDeck));
+        forget(replaced);
+        remember(editedDeck);
+        recordEdit(index, List.of(replaced), List.of(editedDeck));
     }
 
     /**
@@ -86,14 +156,27 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void remove(Deck toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new DeckNotFoundException();
         }
+        Deck removed = internalList.get(index);
+        edit(() -> internalList.remove(index));
+        forget(removed);
+        recordEdit(index, List.of(removed), List.of());
+    }
+
+    /**
+     * Makes the changes to this list in {@code changes}, notifying listeners of the list once for all of them.
+     */
+    public void applyAsOneChange(Runnable changes) {
+        edit(() -> internalList.applyAsOneChange(changes));
     }
 
     public void setDecks(UniqueDeckList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        recordEdit(0, new ArrayList<>(internalList), new ArrayList<>(replacement.internalList));
+        setAll(replacement.internalList);
     }
 
     /**
@@ -106,7 +189,14 @@ public class UniqueDeckList implements Iterable<Deck> {
             throw new DuplicateDeckException();
         }
 
-        internalList.setAll(decks);
+        recordEdit(0, new ArrayList<>(internalList), new ArrayList<>(decks));
+        setAll(decks);
+    }
+
+    private void setAll(List<Deck> replacement) {
+        edit(() -> internalList.setAll(replacement));
+        decksByName.clear();
+        replacement.forEach(this::remember);
     }
 
     /**
@@ -133,15 +223,22 @@ public class UniqueDeckList implements Iterable<Deck> {
         return internalList.hashCode();
     }
 
+    private void recordEdit(int from, List<Deck> removed, List<Deck> added) {
+        if (editHistory != null) {
+            editHistory.record(internalList, from, removed, added);
+        }
+    }
+
     /**
      * Returns true if {@code decks} contains only unique decks.
+     * {@code Deck#equals(Object)} agrees with {@code Deck#isSameDeck(Deck)},
+     * so uniqueness is checked with a hash set in linear time.
      */
     private boolean decksAreUnique(List<Deck> decks) {
-        for (int i = 0; i < decks.size() - 1; i++) {
-            for (int j = i + 1; j < decks.size(); j++) {
-                if (decks.get(i).isSameDeck(decks.get(j))) {
-                    return false;
-                }
+        Set<Deck> seen = new HashSet<>(decks.size() * 2);
+        for (Deck deck : decks) {
+            if (!seen.add(deck)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,256 @@
+package seedu.flashnotes.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.flashnotes.commons.core.BatchedObservableList;
+import seedu.flashnotes.model.tag.Tag;
+
+/**
+ * An observable list of flashcards that stores its contents column by column instead of as {@code Flashcard} objects.
+ * Questions and answers are kept as plain strings in parallel arrays, IDs as plain ints and tags as indices into a
+ * table of the tags in use, which avoids the object headers of a {@code Flashcard}, {@code Question} and
+ * {@code Answer} per card.
+ * <p>
+ * Elements are flyweights: {@link #get(int)} creates a new {@code Flashcard} view every time it is called, so two
+ * views of the same element are equal but not identical. Review state held by a view (see
+ * {@link Flashcard#getIsFlipped()}) is therefore not kept by the list.
+ * Tags stay in the tag table once they have been used, which is cheap as there is one tag per deck.
+ */
+class CompactFlashcardList extends BatchedObservableList<Flashcard> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] questions = new String[INITIAL_CAPACITY];
+    private String[] answers = new String[INITIAL_CAPACITY];
+    private int[] tagIds = new int[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private final List<Tag> tags = new ArrayList<>();
+    private final Map<Tag, Integer> tagIdsByTag = new HashMap<>();
+
+    CompactFlashcardList() {}
+
+    /**
+     * Creates a copy of the contents of {@code other} that later changes to {@code other} do not affect.
+     * Only the columns are copied, so no flashcard is created.
+     */
+    private CompactFlashcardList(CompactFlashcardList other) {
+        questions = Arrays.copyOf(other.questions, other.size);
+        answers = Arrays.copyOf(other.answers, other.size);
+        tagIds = Arrays.copyOf(other.tagIds, other.size);
+        ids = Arrays.copyOf(other.ids, other.size);
+        size = other.size;
+        tags.addAll(other.tags);
+        tagIdsByTag.putAll(other.tagIdsByTag);
+    }
+
+    /**
+     * Returns an unmodifiable copy of this list that later changes to this list do not affect. Making it creates
+     * no flashcards, so it is cheap to make on one thread and read on another.
+     */
+    List<Flashcard> copy() {
+        return Collections.unmodifiableList(new CompactFlashcardList(this));
+    }
+
+    @Override
+    public Flashcard get(int index) {
+        checkIndex(index);
+        return new Flashcard(new Question(questions[index]), new Answer(answers[index]), tags.get(tagIds[index]),
+                ids[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Flashcard element) {
+        requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        int tailLength = size - index;
+        System.arraycopy(questions, index, questions, index + 1, tailLength);
+        System.arraycopy(answers, index, answers, index + 1, tailLength);
+        System.arraycopy(tagIds, index, tagIds, index + 1, tailLength);
+        System.arraycopy(ids, index, ids, index + 1, tailLength);
+        size++;
+        store(index, element);
+    }
+
+    @Override
+    protected Flashcard doSet(int index, Flashcard element) {
+        requireNonNull(element);
+        Flashcard old = get(index);
+        store(index, element);
+        return old;
+    }
+
+    @Override
+    protected Flashcard doRemove(int index) {
+        Flashcard old = get(index);
+        int tailLength = size - index - 1;
+        System.arraycopy(questions, index + 1, questions, index, tailLength);
+        System.arraycopy(answers, index + 1, answers, index, tailLength);
+        System.arraycopy(tagIds, index + 1, tagIds, index, tailLength);
+        System.arraycopy(ids, index + 1, ids, index, tailLength);
+        size--;
+        questions[size] = null;
+        answers[size] = null;
+        return old;
+    }
+
+    /**
+     * Removes the elements in the range with a single shift of the columns,
+     * instead of the one-element-at-a-time removal of the superclass.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<Flashcard> removed = new ArrayList<>(subList(fromIndex, toIndex));
+            System.arraycopy(questions, toIndex, questions, fromIndex, size - toIndex);
+            System.arraycopy(answers, toIndex, answers, fromIndex, size - toIndex);
+            System.arraycopy(tagIds, toIndex, tagIds, fromIndex, size - toIndex);
+            System.arraycopy(ids, toIndex, ids, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            Arrays.fill(questions, newSize, size, null);
+            Arrays.fill(answers, newSize, size, null);
+            size = newSize;
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements contained in {@code c} in a single pass over the columns,
+     * instead of the one-element-at-a-time removal of the superclass.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        requireNonNull(c);
+        beginChange();
+        try {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                Flashcard flashcard = get(i);
+                if (c.contains(flashcard)) {
+                    // Positions are reported as they are once the earlier removals have been applied
+                    nextRemove(kept, flashcard);
+                    continue;
+                }
+                questions[kept] = questions[i];
+                answers[kept] = answers[i];
+                tagIds[kept] = tagIds[i];
+                ids[kept] = ids[i];
+                kept++;
+            }
+            if (kept == size) {
+                return false;
+            }
+            Arrays.fill(questions, kept, size, null);
+            Arrays.fill(answers, kept, size, null);
+            size = kept;
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the index of {@code o} in this list, comparing the columns directly
+     * so that no flyweight is created for the elements it is compared against.
+     */
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Flashcard)) {
+            return -1;
+        }
+        Flashcard flashcard = (Flashcard) o;
+        Integer boxedTagId = tagIdsByTag.get(flashcard.getTag());
+        if (boxedTagId == null) {
+            return -1;
+        }
+        int tagId = boxedTagId;
+        String question = flashcard.getQuestion().question;
+        String answer = flashcard.getAnswer().value;
+        for (int i = 0; i < size; i++) {
+            if (tagIds[i] == tagId && questions[i].equals(question) && answers[i].equals(answer)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the flashcard with the given ID in this list, or -1 if there is none,
+     * comparing the IDs directly so that no flyweight is created.
+     */
+    int indexOfId(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Flashcard> c) {
+        ensureCapacity(size + c.size());
+        return super.addAll(c);
+    }
+
+    private void store(int index, Flashcard element) {
+        questions[index] = element.getQuestion().question;
+        answers[index] = element.getAnswer().value;
+        ids[index] = element.getId();
+        tagIds[index] = tagIdsByTag.computeIfAbsent(element.getTag(), tag -> {
+            tags.add(tag);
+            return tags.size() - 1;
+        });
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= questions.length) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, questions.length + (questions.length >> 1));
+        questions = Arrays.copyOf(questions, newCapacity);
+        answers = Arrays.copyOf(answers, newCapacity);
+        tagIds = Arrays.copyOf(tagIds, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
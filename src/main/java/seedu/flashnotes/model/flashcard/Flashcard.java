@@ -1,32 +1,66 @@
 package seedu.flashnotes.model.flashcard;
 
+import static seedu.flashnotes.commons.util.AppUtil.checkArgument;
 import static seedu.flashnotes.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.flashnotes.model.tag.Tag;
 
 /**
  * Represents a Flashcard in the flashnotes book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * Each flashcard also has a numeric ID that stays the same when the flashcard is edited and is saved with it,
+ * so that a flashcard can be looked up without comparing its contents. The ID is not part of the identity of
+ * a flashcard: two flashcards with the same fields are equal whatever their IDs.
  */
 public class Flashcard {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Flashcard IDs should be non-negative numbers.";
+
+    /** The ID given to the next flashcard created without one. */
+    private static final AtomicInteger nextId = new AtomicInteger();
+
     // Identity fields
     private final Question question;
     private final Answer answer;
     private final Tag tag;
+    private final int id;
+    /** The hash code of the identity fields, or 0 until it is first needed. */
+    private int hash;
     private boolean isFlipped = false;
     private int isCorrect = 0;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The flashcard is given a new ID.
      */
     public Flashcard(Question question, Answer answer, Tag tag) {
+        this(question, answer, tag, nextId.getAndIncrement());
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be valid as declared in
+     * {@link #isValidId(int)}. Used to keep the ID of a flashcard that is edited or loaded from storage.
+     */
+    public Flashcard(Question question, Answer answer, Tag tag, int id) {
         requireAllNonNull(question, answer, tag);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
         this.question = question;
         this.answer = answer;
         this.tag = tag;
+        this.id = id;
+        // Flashcards created later must not be given an ID that is already in use
+        if (id >= nextId.get()) {
+            nextId.accumulateAndGet(id + 1, Math::max);
+        }
+    }
+
+    /**
+     * Returns true if {@code id} can be the ID of a flashcard.
+     */
+    public static boolean isValidId(int id) {
+        return id >= 0 && id < Integer.MAX_VALUE;
     }
 
     public Question getQuestion() {
@@ -41,6 +75,10 @@ public class Flashcard {
         return tag;
     }
 
+    public int getId() {
+        return id;
+    }
+
     /**
      * Returns whether the flashcard has been flipped in review mode
      *
@@ -89,14 +127,7 @@ public class Flashcard {
      * This defines a weaker notion of equality between two flashcards.
      */
     public boolean isSameFlashcard(Flashcard otherFlashcard) {
-        if (otherFlashcard == this) {
-            return true;
-        }
-
-        return otherFlashcard != null
-                && otherFlashcard.getQuestion().equals(getQuestion())
-                && (otherFlashcard.getAnswer().equals(getAnswer()))
-                && otherFlashcard.getTag().equals(getTag());
+        return equals(otherFlashcard);
     }
 
     /**
@@ -114,15 +145,24 @@ public class Flashcard {
         }
 
         Flashcard otherFlashcard = (Flashcard) other;
-        return otherFlashcard.getQuestion().equals(getQuestion())
-                && otherFlashcard.getAnswer().equals(getAnswer())
-                && otherFlashcard.getTag().equals(getTag());
+        // Flashcards with different hash codes differ, which is found without comparing their strings.
+        // Tags are canonical, so comparing them first is cheap.
+        return otherFlashcard.hashCode() == hashCode()
+                && otherFlashcard.getTag().equals(getTag())
+                && otherFlashcard.getQuestion().equals(getQuestion())
+                && otherFlashcard.getAnswer().equals(getAnswer());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(question, answer, tag);
+        // The fields are immutable, so the hash code is computed once. Racing threads compute the same value.
+        int h = hash;
+        if (h == 0) {
+            // Same value as Objects.hash(question, answer, tag), without allocating an array for every call
+            h = 31 * (31 * (31 + question.hashCode()) + answer.hashCode()) + tag.hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -3,13 +3,23 @@ package seedu.flashnotes.model.flashcard;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.flashnotes.commons.core.BatchedObservableList;
 import seedu.flashnotes.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.flashnotes.model.flashcard.exceptions.FlashcardNotFoundException;
+import seedu.flashnotes.model.history.EditHistory;
 
 /**
  * A list of flashcards that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +29,156 @@ import seedu.flashnotes.model.flashcard.exceptions.FlashcardNotFoundException;
  * However, the removal of a flashcard uses Flashcard#equals(Object) so
  * as to ensure that the flashcard with exactly the same fields will be removed.
  *
+ * No two flashcards in the list may have the same ID either, so that a flashcard can be found by its ID.
+ * The flashcard to replace or remove is looked up by its ID first, and only searched for by its fields if the
+ * flashcard with that ID is a different one.
+ *
+ * A plain list keeps a set of its flashcards and a map of them by ID, so checking for a duplicate or finding a
+ * flashcard by its ID does not scan the list. A compact list keeps neither, as they would hold an object per
+ * flashcard, and scans its columns instead.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Flashcard#isSameFlashcard(Flashcard)
  */
 public class UniqueFlashcardList implements Iterable<Flashcard> {
 
-    private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Flashcard> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchedObservableList<Flashcard> internalList;
+    private final ObservableList<Flashcard> internalUnmodifiableList;
+    /** The flashcards in the list, or null if the list is compact and compares its columns instead. */
+    private final Set<Flashcard> flashcardSet;
+    /** The flashcards in the list by their ID, or null if the list is compact and scans its ID column instead. */
+    private final Map<Integer, Flashcard> flashcardsById;
+    /** True while this list changes its internal list itself, updating the lookups as it goes. */
+    private boolean isEditing;
+    private EditHistory editHistory;
+
+    public UniqueFlashcardList() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty list. If {@code isCompact}, the flashcards are stored column by column to save memory
+     * and the list hands out flyweight views of them (see {@link CompactFlashcardList}).
+     */
+    public UniqueFlashcardList(boolean isCompact) {
+        internalList = isCompact ? new CompactFlashcardList() : BatchedObservableList.observableArrayList();
+        // The lookups are updated by each edit, so that they are up to date within a batch of edits too. Undoing and
+        // redoing edits changes the list directly, so a listener, added first, updates them for those changes.
+        flashcardSet = isCompact ? null : new HashSet<>();
+        flashcardsById = isCompact ? null : new HashMap<>();
+        if (!isCompact) {
+            internalList.addListener(this::updateLookups);
+        }
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    private void updateLookups(ListChangeListener.Change<? extends Flashcard> change) {
+        if (isEditing) {
+            return;
+        }
+        // All removals are applied before any addition, as a batched change may add back a flashcard it removes
+        // or reuse the ID of a removed flashcard
+        while (change.next()) {
+            change.getRemoved().forEach(this::forget);
+        }
+        change.reset();
+        while (change.next()) {
+            change.getAddedSubList().forEach(this::remember);
+        }
+    }
+
+    /**
+     * Adds {@code flashcard}, which has been added to the internal list, to the lookups of a plain list.
+     */
+    private void remember(Flashcard flashcard) {
+        if (flashcardSet != null) {
+            flashcardSet.add(flashcard);
+            flashcardsById.put(flashcard.getId(), flashcard);
+        }
+    }
+
+    /**
+     * Removes {@code flashcard}, which has been removed from the internal list, from the lookups of a plain list.
+     */
+    private void forget(Flashcard flashcard) {
+        if (flashcardSet != null) {
+            flashcardSet.remove(flashcard);
+            flashcardsById.remove(flashcard.getId(), flashcard);
+        }
+    }
+
+    /**
+     * Makes {@code edit} to the internal list, which must update the lookups itself.
+     */
+    private void edit(Runnable edit) {
+        boolean wasEditing = isEditing;
+        isEditing = true;
+        try {
+            edit.run();
+        } finally {
+            isEditing = wasEditing;
+        }
+    }
+
+    /**
+     * Makes the list record its edits in {@code editHistory} from now on, or stop recording them if it is null.
+     */
+    public void setEditHistory(EditHistory editHistory) {
+        this.editHistory = editHistory;
+    }
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
+     * {@code Flashcard#equals(Object)} agrees with {@code Flashcard#isSameFlashcard(Flashcard)}.
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return flashcardSet == null ? internalList.contains(toCheck) : flashcardSet.contains(toCheck);
+    }
+
+    /**
+     * Returns true if the list contains a flashcard with the given ID.
+     */
+    public boolean containsId(int id) {
+        return flashcardsById == null ? ((CompactFlashcardList) internalList).indexOfId(id) != -1
+                : flashcardsById.containsKey(id);
+    }
+
+    /**
+     * Returns the flashcard in the list with the given ID, or null if there is none.
+     */
+    public Flashcard findFlashcard(int id) {
+        if (flashcardsById != null) {
+            return flashcardsById.get(id);
+        }
+        int index = ((CompactFlashcardList) internalList).indexOfId(id);
+        return index == -1 ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the index of the flashcard equal to {@code flashcard} in the list, or -1 if there is none.
+     * The flashcard with the same ID is looked for first, by comparing IDs in a compact list and references
+     * in a plain one, so that the fields of every flashcard are only compared for a copy of a flashcard that
+     * has been given a different ID.
+     */
+    private int indexOf(Flashcard flashcard) {
+        int index = -1;
+        if (flashcardsById == null) {
+            index = ((CompactFlashcardList) internalList).indexOfId(flashcard.getId());
+        } else {
+            Flashcard withSameId = flashcardsById.get(flashcard.getId());
+            for (int i = 0; withSameId != null && i < internalList.size(); i++) {
+                if (internalList.get(i) == withSameId) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (index != -1 && internalList.get(index).equals(flashcard)) {
+            return index;
+        }
+        return internalList.indexOf(flashcard);
     }
 
     /**
@@ -43,21 +187,24 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void add(Flashcard toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || containsId(toAdd.getId())) {
             throw new DuplicateFlashcardException();
         }
-        internalList.add(toAdd);
+        recordEdit(internalList.size(), List.of(), List.of(toAdd));
+        edit(() -> internalList.add(toAdd));
+        remember(toAdd);
     }
 
     /**
      * Replaces the flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the list.
-     * The flashcard identity of {@code editedFlashcard} must not be the same as another existing flashcard in the list.
+     * The flashcard identity of {@code editedFlashcard} must not be the same as another existing flashcard in the list,
+     * and its ID must be the ID of {@code target} or not be in the list.
      */
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new FlashcardNotFoundException();
         }
@@ -65,8 +212,87 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         if (!target.isSameFlashcard(editedFlashcard) && contains(editedFlashcard)) {
             throw new DuplicateFlashcardException();
         }
+        if (internalList.get(index).getId() != editedFlashcard.getId() && containsId(editedFlashcard.getId())) {
+            throw new DuplicateFlashcardException();
+        }
+
+        Flashcard replaced = internalList.get(index);
+        edit(() -> internalList.set(index, editedFlashcard));
+        forget(replaced);
+        remember(editedFlashcard);
+        recordEdit(index, List.of(replaced), List.of(editedFlashcard));
+    }
+
+    /**
+     * Replaces each flashcard that is a key of {@code editedFlashcards} with its value, in a single pass over the
+     * list, notifying listeners of the list once. Every key must exist in the list, and the list must not contain
+     * duplicate flashcards afterwards.
+     */
+    public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+        requireAllNonNull(editedFlashcards.keySet());
+        requireAllNonNull(editedFlashcards.values());
+        Set<Flashcard> newFlashcards = new HashSet<>(editedFlashcards.values());
+        Set<Integer> newIds = new HashSet<>();
+        editedFlashcards.values().forEach(flashcard -> newIds.add(flashcard.getId()));
+        if (newFlashcards.size() != editedFlashcards.size() || newIds.size() != editedFlashcards.size()) {
+            throw new DuplicateFlashcardException();
+        }
+
+        List<Integer> indices = new ArrayList<>(editedFlashcards.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            Flashcard flashcard = internalList.get(i);
+            if (editedFlashcards.containsKey(flashcard)) {
+                indices.add(i);
+            } else if (newFlashcards.contains(flashcard) || newIds.contains(flashcard.getId())) {
+                throw new DuplicateFlashcardException();
+            }
+        }
+        if (indices.size() != editedFlashcards.size()) {
+            throw new FlashcardNotFoundException();
+        }
 
-        internalList.set(index, editedFlashcard);
+        edit(() -> internalList.applyAsOneChange(() -> {
+            for (int index : indices) {
+                Flashcard editedFlashcard = editedFlashcards.get(internalList.get(index));
+                Flashcard replaced = internalList.set(index, editedFlashcard);
+                recordEdit(index, List.of(replaced), List.of(editedFlashcard));
+                forget(replaced);
+            }
+        }));
+        // Added after all are removed, as an edited flashcard may take the place of another edited one
+        editedFlashcards.values().forEach(this::remember);
+    }
+
+    /**
+     * Makes the changes to this list in {@code changes}, notifying listeners of the list once for all of them.
+     */
+    public void applyAsOneChange(Runnable changes) {
+        edit(() -> internalList.applyAsOneChange(changes));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, notifying listeners of the list once.
+     * None of the flashcards may already exist in the list, and {@code toAdd} must not contain duplicates.
+     */
+    public void addAll(Collection<Flashcard> toAdd) {
+        requireAllNonNull(toAdd);
+        // A plain list checks its lookups, so only the flashcards added are hashed
+        boolean isCompact = flashcardSet == null;
+        Set<Flashcard> seen = isCompact ? new HashSet<>(internalList) : new HashSet<>();
+        Set<Integer> seenIds = new HashSet<>();
+        if (isCompact) {
+            internalList.forEach(flashcard -> seenIds.add(flashcard.getId()));
+        }
+        for (Flashcard flashcard : toAdd) {
+            boolean isInList = !isCompact && (flashcardSet.contains(flashcard)
+                    || flashcardsById.containsKey(flashcard.getId()));
+            if (isInList || !seen.add(flashcard) || !seenIds.add(flashcard.getId())) {
+                throw new DuplicateFlashcardException();
+            }
+        }
+        recordEdit(internalList.size(), List.of(), new ArrayList<>(toAdd));
+        edit(() -> internalList.addAll(toAdd));
+        toAdd.forEach(this::remember);
     }
 
     /**
@@ -75,14 +301,37 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void remove(Flashcard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new FlashcardNotFoundException();
         }
+        Flashcard removed = internalList.get(index);
+        edit(() -> internalList.remove(index));
+        forget(removed);
+        recordEdit(index, List.of(removed), List.of());
+    }
+
+    /**
+     * Removes the flashcards equal to any of {@code toRemove} from the list, notifying listeners of the list once.
+     * Flashcards that are not in the list are ignored.
+     */
+    public void removeAll(Collection<Flashcard> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Flashcard> toRemoveSet = new HashSet<>(toRemove);
+        if (editHistory != null) {
+            recordRemovals(toRemoveSet);
+        }
+        if (flashcardSet != null) {
+            // The flashcards in the list are forgotten rather than those given, which may have other IDs
+            internalList.stream().filter(toRemoveSet::contains).forEach(this::forget);
+        }
+        edit(() -> internalList.removeAll(toRemoveSet));
     }
 
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        recordEdit(0, new ArrayList<>(internalList), new ArrayList<>(replacement.internalList));
+        setAll(replacement.internalList);
     }
 
     /**
@@ -95,7 +344,27 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
             throw new DuplicateFlashcardException();
         }
 
-        internalList.setAll(flashcards);
+        recordEdit(0, new ArrayList<>(internalList), new ArrayList<>(flashcards));
+        setAll(flashcards);
+    }
+
+    private void setAll(List<Flashcard> replacement) {
+        edit(() -> internalList.setAll(replacement));
+        if (flashcardSet != null) {
+            flashcardSet.clear();
+            flashcardsById.clear();
+            replacement.forEach(this::remember);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list that later changes to the list do not affect, which can be read on
+     * another thread. Making it copies references, or the columns of a compact list, and creates no flashcards.
+     */
+    public List<Flashcard> getSnapshot() {
+        return internalList instanceof CompactFlashcardList
+                ? ((CompactFlashcardList) internalList).copy()
+                : Collections.unmodifiableList(new ArrayList<>(internalList));
     }
 
     /**
@@ -122,15 +391,46 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
         return internalList.hashCode();
     }
 
+    private void recordEdit(int from, List<Flashcard> removed, List<Flashcard> added) {
+        if (editHistory != null) {
+            editHistory.record(internalList, from, removed, added);
+        }
+    }
+
+    /**
+     * Records the removal of the flashcards in {@code toRemove} as one edit per run of adjacent flashcards,
+     * last run first, so that undoing the edits in reverse puts each run back where it was.
+     */
+    private void recordRemovals(Set<Flashcard> toRemove) {
+        List<int[]> runs = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!toRemove.contains(internalList.get(i))) {
+                continue;
+            }
+            int[] lastRun = runs.isEmpty() ? null : runs.get(runs.size() - 1);
+            if (lastRun != null && lastRun[1] == i) {
+                lastRun[1] = i + 1;
+            } else {
+                runs.add(new int[] {i, i + 1});
+            }
+        }
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            int[] run = runs.get(i);
+            recordEdit(run[0], new ArrayList<>(internalList.subList(run[0], run[1])), List.of());
+        }
+    }
+
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * Returns true if {@code flashcards} contains only unique flashcards with unique IDs.
+     * {@code Flashcard#equals(Object)} agrees with {@code Flashcard#isSameFlashcard(Flashcard)},
+     * so uniqueness is checked with a hash set in linear time.
      */
     private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).isSameFlashcard(flashcards.get(j))) {
-                    return false;
-                }
+        Set<Flashcard> seen = new HashSet<>(flashcards.size() * 2);
+        Set<Integer> seenIds = new HashSet<>(flashcards.size() * 2);
+        for (Flashcard flashcard : flashcards) {
+            if (!seen.add(flashcard) || !seenIds.add(flashcard.getId())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,165 @@
+package seedu.flashnotes.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.flashnotes.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.flashnotes.commons.core.BatchedObservableList;
+
+/**
+ * The undo and redo history of the lists in a {@code FlashNotes}.
+ * <p>
+ * Instead of a copy of the flashnotes per step, the history keeps a log of the edits made to the lists, each
+ * holding only the elements it removed or added. Lists record their edits as they are made, and the edits
+ * since the last {@link #commit(String)} are grouped into one step that can be undone and redone as a whole.
+ * A step therefore costs memory in proportion to what it changed, not to the size of the library.
+ * <p>
+ * Only the most recent {@code capacity} steps are kept.
+ */
+public class EditHistory {
+
+    public static final int DEFAULT_CAPACITY = 500;
+
+    private final int capacity;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private List<ListEdit<?>> uncommittedEdits = new ArrayList<>();
+
+    /**
+     * A group of edits that is undone and redone as a whole.
+     */
+    private static class Step {
+        private final String description;
+        private final List<ListEdit<?>> edits;
+
+        Step(String description, List<ListEdit<?>> edits) {
+            this.description = description;
+            this.edits = edits;
+        }
+
+        void undo() {
+            applyAsOneChangePerList(() -> {
+                for (int i = edits.size() - 1; i >= 0; i--) {
+                    edits.get(i).undo();
+                }
+            });
+        }
+
+        void redo() {
+            applyAsOneChangePerList(() -> edits.forEach(ListEdit::redo));
+        }
+
+        /**
+         * Runs {@code changes} so that each list edited by this step notifies its listeners once, however many
+         * of its edits are undone or redone.
+         */
+        private void applyAsOneChangePerList(Runnable changes) {
+            Set<List<?>> lists = Collections.newSetFromMap(new IdentityHashMap<>());
+            Runnable batchedChanges = changes;
+            for (ListEdit<?> edit : edits) {
+                List<?> list = edit.getList();
+                if (list instanceof BatchedObservableList && lists.add(list)) {
+                    Runnable innerChanges = batchedChanges;
+                    batchedChanges = () -> ((BatchedObservableList<?>) list).applyAsOneChange(innerChanges);
+                }
+            }
+            batchedChanges.run();
+        }
+    }
+
+    public EditHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history that keeps at most {@code capacity} steps.
+     */
+    public EditHistory(int capacity) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records that the elements {@code removed} at position {@code from} of {@code list} were replaced
+     * with {@code added}. The lists of elements must not be changed afterwards.
+     */
+    public <T> void record(List<T> list, int from, List<T> removed, List<T> added) {
+        requireNonNull(list);
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        uncommittedEdits.add(new ListEdit<>(list, from, removed, added));
+    }
+
+    /**
+     * Groups the edits recorded since the last commit into a step described by {@code description},
+     * which becomes the next step to undo. Does nothing if no edits were recorded.
+     */
+    public void commit(String description) {
+        requireNonNull(description);
+        if (uncommittedEdits.isEmpty()) {
+            return;
+        }
+        undoSteps.push(new Step(description, uncommittedEdits));
+        uncommittedEdits = new ArrayList<>();
+        redoSteps.clear();
+        if (undoSteps.size() > capacity) {
+            undoSteps.removeLast();
+        }
+    }
+
+    /**
+     * Reverts the edits recorded since the last commit.
+     */
+    public void rollBack() {
+        new Step("", uncommittedEdits).undo();
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    public boolean hasUncommittedEdits() {
+        return !uncommittedEdits.isEmpty();
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the last committed step. There must be no uncommitted edits.
+     *
+     * @return the description of the step.
+     */
+    public String undo() {
+        checkArgument(canUndo(), "There is no step to undo");
+        checkArgument(!hasUncommittedEdits(), "Uncommitted edits must be committed or rolled back first");
+        Step step = undoSteps.pop();
+        step.undo();
+        redoSteps.push(step);
+        return step.description;
+    }
+
+    /**
+     * Redoes the last undone step. There must be no uncommitted edits.
+     *
+     * @return the description of the step.
+     */
+    public String redo() {
+        checkArgument(canRedo(), "There is no step to redo");
+        checkArgument(!hasUncommittedEdits(), "Uncommitted edits must be committed or rolled back first");
+        Step step = redoSteps.pop();
+        step.redo();
+        undoSteps.push(step);
+        return step.description;
+    }
+}
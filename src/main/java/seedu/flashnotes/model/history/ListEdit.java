@@ -0,0 +1,58 @@
+package seedu.flashnotes.model.history;
+
+import java.util.List;
+
+/**
+ * An edit of a list that replaced the elements {@code removed} at position {@code from} with {@code added}.
+ * Only the elements that were removed or added are kept, so an edit costs memory in proportion to its size
+ * rather than to the size of the list. Elements are shared with the list rather than copied. This relies on the
+ * fields that identify an element, such as the name of a deck or the question, answer and tag of a flashcard,
+ * never changing. Other state of an element, such as the review statistics of a deck or whether a flashcard is
+ * flipped, is not part of an edit: an element put back by undo or redo keeps its latest value of it.
+ */
+class ListEdit<T> {
+
+    private final List<T> list;
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    ListEdit(List<T> list, int from, List<T> removed, List<T> added) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    List<T> getList() {
+        return list;
+    }
+
+    /**
+     * Reverts this edit. The list must be as it was right after the edit.
+     */
+    void undo() {
+        replace(added.size(), removed);
+    }
+
+    /**
+     * Applies this edit again. The list must be as it was right before the edit.
+     */
+    void redo() {
+        replace(removed.size(), added);
+    }
+
+    private void replace(int removedCount, List<T> replacement) {
+        if (removedCount == 1 && replacement.size() == 1) {
+            // Keeps an edited element in place with a single change instead of a removal and an addition
+            list.set(from, replacement.get(0));
+            return;
+        }
+        if (removedCount > 0) {
+            list.subList(from, from + removedCount).clear();
+        }
+        if (!replacement.isEmpty()) {
+            list.addAll(from, replacement);
+        }
+    }
+}
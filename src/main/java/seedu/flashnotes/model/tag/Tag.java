@@ -3,11 +3,17 @@ package seedu.flashnotes.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.flashnotes.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import seedu.flashnotes.model.deck.Deck;
 
 /**
  * Represents a Tag in the flashnotes.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags are canonicalized: {@link #of(String)} returns the same instance for the same name
+ * for as long as that instance is in use.
  */
 public class Tag {
 
@@ -16,6 +22,12 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should not be blank. "
             + "Tag name should not use the reserved name: " + RESERVED_TAG_NAME;
 
+    /**
+     * Pool of the tags currently in use, keyed by their own name so that an entry is dropped
+     * once no flashcard refers to its tag any more.
+     */
+    private static final Map<String, WeakReference<Tag>> internedTags = new WeakHashMap<>();
+
     public final String tagName;
 
 
@@ -24,10 +36,28 @@ public class Tag {
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
+    /**
+     * Returns the canonical {@code Tag} with the given name, creating it if no such tag is in use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+
+        synchronized (internedTags) {
+            WeakReference<Tag> reference = internedTags.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                internedTags.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
     }
 
     /**
@@ -21,30 +21,30 @@ public class SampleDataUtil {
             new Flashcard(new Question("What is the definition of Macroeconomics?"),
                         new Answer("It is concerned with large-scale or general economic factors, "
                                 + "such as interest rates and national productivity."),
-                        new Tag("Economics")),
+                        Tag.of("Economics")),
             new Flashcard(new Question("What is the definition of Microeconomics?"),
                         new Answer("It is concerned with single factors and the effects of individual decisions."),
-                        new Tag("Economics")),
+                        Tag.of("Economics")),
             new Flashcard(new Question("What is the definition of demand?"),
                         new Answer("It is the desire and willingness to pay a price for a good or service"),
-                        new Tag("Economics")),
+                        Tag.of("Economics")),
             new Flashcard(new Question("When did Singapore gain independence?"),
-                        new Answer("1965"), new Tag("Singapore")),
+                        new Answer("1965"), Tag.of("Singapore")),
             new Flashcard(new Question("How many stars are there on Singapore's Flag?"),
-                        new Answer("5"), new Tag("Singapore")),
+                        new Answer("5"), Tag.of("Singapore")),
             new Flashcard(new Question("Who was Singapore's First Prime Minister?"),
-                        new Answer("Lee Kuan Yew"), new Tag("Singapore")),
+                        new Answer("Lee Kuan Yew"), Tag.of("Singapore")),
             new Flashcard(new Question("How do you spell Singaporean?"),
-                        new Answer("Singaporean"), new Tag("Singapore")),
+                        new Answer("Singaporean"), Tag.of("Singapore")),
             new Flashcard(new Question("Who wrote The Great Gatsby"),
-                        new Answer("F. Scott Fitzgerald"), new Tag("Literature")),
+                        new Answer("F. Scott Fitzgerald"), Tag.of("Literature")),
             new Flashcard(new Question("Why did Daisy marry Tom in the Great Gatsby?"),
                         new Answer("Daisy most likely married Tom because she knew "
-                                + "he could provide her with more material comforts"), new Tag("Literature")),
+                                + "he could provide her with more material comforts"), Tag.of("Literature")),
             new Flashcard(new Question("Why does Myrtle run out in front of Gatsby’s car in the Great Gatsby?"),
                         new Answer(" Myrtle runs out in front of Gatsby’s "
                                 + "car because she mistakes it for Tom’s car."),
-                        new Tag("Literature"))
+                        Tag.of("Literature"))
         };
     }
 
@@ -70,7 +70,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,264 @@
+package seedu.flashnotes.model.util;
+
+import static seedu.flashnotes.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.tag.Tag;
+
+/**
+ * Generates large {@code FlashNotes} libraries for benchmarks, stress tests and profiling.
+ * The same seed and settings always produce the same library.
+ * <p>
+ * Flashcards are spread over the decks following a Zipf distribution: with a skew of 0 every deck gets
+ * about the same number of flashcards, and the higher the skew, the more the first decks get.
+ * Questions and answers are made of random words, optionally mixed with non-ASCII words.
+ * A flashcard that would duplicate an earlier one gets its index appended, which may take its question
+ * past the maximum text length, though never past the limit of a valid {@code Question}.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final String MESSAGE_INVALID_SETTINGS = "Invalid settings for the synthetic data generator: %s";
+
+    private static final int MAX_TEXT_LENGTH = 140;
+    private static final int MAX_DECK_NAME_LENGTH = 40;
+    private static final double UNICODE_WORD_PROBABILITY = 0.3;
+
+    private static final String[] WORDS = {
+        "what", "is", "the", "of", "a", "an", "how", "why", "when", "where", "which", "does", "do", "in", "on",
+        "define", "explain", "describe", "compare", "between", "difference", "cause", "effect", "example",
+        "theory", "law", "equation", "function", "market", "demand", "supply", "price", "cell", "energy",
+        "photosynthesis", "respiration", "mitochondria", "protein", "enzyme", "atom", "molecule", "reaction",
+        "history", "empire", "war", "treaty", "revolution", "independence", "capital", "river", "mountain",
+        "novel", "author", "character", "theme", "poem", "verb", "noun", "tense", "grammar", "algorithm",
+        "complexity", "graph", "tree", "recursion", "integral", "derivative", "matrix", "vector", "probability"
+    };
+
+    private static final String[] UNICODE_WORDS = {
+        "café", "naïve", "Größe", "jalapeño", "façade", "smörgåsbord", "привет", "книга", "λόγος", "θεωρία",
+        "学习", "記憶", "한국어", "日本語", "مرحبا", "שלום", "नमस्ते", "ধন্যবাদ", "idea💡", "book📚", "star⭐", "math∑"
+    };
+
+    private static final String[] DECK_TOPICS = {
+        "Biology", "Chemistry", "Physics", "History", "Geography", "Literature", "Economics", "Mathematics",
+        "Computing", "Languages", "Music", "Art"
+    };
+
+    private static final String[] UNICODE_DECK_TOPICS = {
+        "Français", "Español", "Deutsch", "Русский", "Ελληνικά", "中文", "日本語", "한국어", "العربية", "हिन्दी"
+    };
+
+    private final long seed;
+    private int deckCount = 10;
+    private int cardCount = 1000;
+    private double skew = 0;
+    private int minTextLength = 10;
+    private int maxTextLength = 80;
+    private boolean isUnicode = false;
+
+    /**
+     * Creates a generator with the given seed and the default settings:
+     * 1000 flashcards spread evenly over 10 decks, with ASCII texts of 10 to 80 characters.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a generator with the {@link #DEFAULT_SEED} and the default settings.
+     */
+    public SyntheticDataGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Sets the number of decks, which must be positive.
+     */
+    public SyntheticDataGenerator withDeckCount(int deckCount) {
+        checkArgument(deckCount > 0, String.format(MESSAGE_INVALID_SETTINGS, "deck count " + deckCount));
+        this.deckCount = deckCount;
+        return this;
+    }
+
+    /**
+     * Sets the total number of flashcards, which must not be negative.
+     */
+    public SyntheticDataGenerator withCardCount(int cardCount) {
+        checkArgument(cardCount >= 0, String.format(MESSAGE_INVALID_SETTINGS, "card count " + cardCount));
+        this.cardCount = cardCount;
+        return this;
+    }
+
+    /**
+     * Sets the exponent of the Zipf distribution of flashcards over decks, which must not be negative.
+     * A skew of 0 spreads flashcards evenly, a skew of 1 gives the first deck about twice as many flashcards
+     * as the second and three times as many as the third.
+     */
+    public SyntheticDataGenerator withSkew(double skew) {
+        checkArgument(skew >= 0, String.format(MESSAGE_INVALID_SETTINGS, "skew " + skew));
+        this.skew = skew;
+        return this;
+    }
+
+    /**
+     * Sets the range of lengths of questions and answers, in characters.
+     */
+    public SyntheticDataGenerator withTextLength(int minTextLength, int maxTextLength) {
+        checkArgument(0 < minTextLength && minTextLength <= maxTextLength && maxTextLength <= MAX_TEXT_LENGTH,
+                String.format(MESSAGE_INVALID_SETTINGS, "text length " + minTextLength + " to " + maxTextLength));
+        this.minTextLength = minTextLength;
+        this.maxTextLength = maxTextLength;
+        return this;
+    }
+
+    /**
+     * Sets whether deck names, questions and answers include non-ASCII words,
+     * including characters outside the Basic Multilingual Plane.
+     */
+    public SyntheticDataGenerator withUnicode(boolean isUnicode) {
+        this.isUnicode = isUnicode;
+        return this;
+    }
+
+    /**
+     * Returns the number of flashcards that each deck gets, in deck order.
+     */
+    public int[] getCardsPerDeck() {
+        double[] weights = new double[deckCount];
+        double totalWeight = 0;
+        for (int i = 0; i < deckCount; i++) {
+            weights[i] = 1 / Math.pow(i + 1, skew);
+            totalWeight += weights[i];
+        }
+
+        // Largest remainder method, so that the counts add up to exactly cardCount
+        int[] counts = new int[deckCount];
+        double[] remainders = new double[deckCount];
+        int assigned = 0;
+        for (int i = 0; i < deckCount; i++) {
+            double share = cardCount * weights[i] / totalWeight;
+            counts[i] = (int) share;
+            remainders[i] = share - counts[i];
+            assigned += counts[i];
+        }
+        Integer[] byRemainder = new Integer[deckCount];
+        for (int i = 0; i < deckCount; i++) {
+            byRemainder[i] = i;
+        }
+        Arrays.sort(byRemainder, (first, second) -> Double.compare(remainders[second], remainders[first]));
+        for (int i = 0; assigned < cardCount; i++, assigned++) {
+            counts[byRemainder[i]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Generates a library with the current settings.
+     */
+    public FlashNotes generate() {
+        return generate(false);
+    }
+
+    /**
+     * Generates a library with the current settings, using the compact flashcard store if {@code isCompact}.
+     */
+    public FlashNotes generate(boolean isCompact) {
+        Random random = new Random(seed);
+        List<Deck> decks = generateDecks(random);
+
+        // Flashcards are interleaved across decks, as they would be when added over time
+        int[] cardsPerDeck = getCardsPerDeck();
+        List<Integer> deckIndices = new ArrayList<>(cardCount);
+        for (int i = 0; i < deckCount; i++) {
+            deckIndices.addAll(Collections.nCopies(cardsPerDeck[i], i));
+        }
+        Collections.shuffle(deckIndices, random);
+
+        Set<Flashcard> flashcards = new HashSet<>(cardCount * 2);
+        List<Flashcard> orderedFlashcards = new ArrayList<>(cardCount);
+        for (int i = 0; i < cardCount; i++) {
+            Tag tag = Tag.of(decks.get(deckIndices.get(i)).getDeckName());
+            String question = generateText(random);
+            Answer answer = new Answer(generateText(random));
+            Flashcard flashcard = new Flashcard(new Question(question), answer, tag);
+            if (!flashcards.add(flashcard)) {
+                String suffix = " #" + i;
+                String prefix = question.substring(0, Math.min(question.length(), MAX_TEXT_LENGTH - suffix.length()));
+                flashcard = new Flashcard(new Question(trimSurrogate(prefix) + suffix), answer, tag);
+                flashcards.add(flashcard);
+            }
+            orderedFlashcards.add(flashcard);
+        }
+
+        FlashNotes flashNotes = new FlashNotes(isCompact);
+        flashNotes.setFlashcards(orderedFlashcards);
+        flashNotes.setDecks(decks);
+        return flashNotes;
+    }
+
+    private List<Deck> generateDecks(Random random) {
+        List<Deck> decks = new ArrayList<>(deckCount);
+        for (int i = 0; i < deckCount; i++) {
+            String topic = isUnicode && random.nextDouble() < UNICODE_WORD_PROBABILITY
+                    ? pick(UNICODE_DECK_TOPICS, random)
+                    : pick(DECK_TOPICS, random);
+            String suffix = " " + (i + 1);
+            String name = topic.substring(0, Math.min(topic.length(), MAX_DECK_NAME_LENGTH - suffix.length()));
+            decks.add(new Deck(name + suffix));
+        }
+        return decks;
+    }
+
+    /**
+     * Returns random words with a total length between the minimum and the maximum text length.
+     * Text may be shorter than the minimum when the next word does not fit under the maximum.
+     */
+    private String generateText(Random random) {
+        int targetLength = minTextLength + random.nextInt(maxTextLength - minTextLength + 1);
+        StringBuilder text = new StringBuilder(targetLength);
+        while (text.length() < targetLength) {
+            String word = isUnicode && random.nextDouble() < UNICODE_WORD_PROBABILITY
+                    ? pick(UNICODE_WORDS, random)
+                    : pick(WORDS, random);
+            int separatorLength = text.length() == 0 ? 0 : 1;
+            if (text.length() + separatorLength + word.length() > targetLength) {
+                if (text.length() == 0) {
+                    // Every word starts with a character in the Basic Multilingual Plane, so one always fits
+                    text.append(trimSurrogate(word.substring(0, targetLength)));
+                }
+                break;
+            }
+            if (separatorLength > 0) {
+                text.append(' ');
+            }
+            text.append(word);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Drops a trailing high surrogate left over from cutting {@code text} in the middle of a character.
+     */
+    private static String trimSurrogate(String text) {
+        if (!text.isEmpty() && Character.isHighSurrogate(text.charAt(text.length() - 1))) {
+            return text.substring(0, text.length() - 1);
+        }
+        return text;
+    }
+
+    private static String pick(String[] words, Random random) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.flashnotes.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import seedu.flashnotes.storage.FlashNotesStorage.SaveTask;
+
+/**
+ * Runs saves one at a time on a background thread, in the order they are started.
+ * <p>
+ * Each save writes all the data, so a save that is still waiting when the next one is started is skipped and
+ * completes when the next one does. However many commands are entered while a large file is being written,
+ * at most one more save follows it.
+ */
+class BackgroundSaver {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        // A daemon, so that the app can exit without stopping it; the app waits for the saves before exiting
+        Thread thread = new Thread(runnable, "flashnotes-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SaveTask waitingTask;
+    private CompletableFuture<Void> waitingResult;
+    private CompletableFuture<Void> lastResult = CompletableFuture.completedFuture(null);
+
+    /**
+     * Starts {@code task} after the saves started before it.
+     *
+     * @return the save, which completes once the data is written, or fails with the exception that stopped it.
+     */
+    synchronized CompletableFuture<Void> save(SaveTask task) {
+        requireNonNull(task);
+        if (waitingResult == null) {
+            waitingResult = new CompletableFuture<>();
+            lastResult = waitingResult;
+            executor.execute(this::runWaitingTask);
+        }
+        waitingTask = task;
+        return waitingResult;
+    }
+
+    private void runWaitingTask() {
+        SaveTask task;
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            task = waitingTask;
+            result = waitingResult;
+            waitingTask = null;
+            waitingResult = null;
+        }
+        try {
+            task.save();
+            result.complete(null);
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Waits for the saves started so far to finish, whether they succeed or fail.
+     */
+    void waitForSaves() {
+        CompletableFuture<Void> result;
+        synchronized (this) {
+            result = lastResult;
+        }
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            // Failures are reported through the result returned when the save was started
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.flashnotes.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+/**
+ * Identifies a version of a file by its size and last modified time.
+ * Used to tell whether a file has been changed since it was last read or written.
+ */
+class FileFingerprint {
+
+    private final FileTime lastModifiedTime;
+    private final long size;
+
+    private FileFingerprint(FileTime lastModifiedTime, long size) {
+        this.lastModifiedTime = lastModifiedTime;
+        this.size = size;
+    }
+
+    /**
+     * Returns the fingerprint of {@code file} as it is now, or null if the file does not exist.
+     */
+    static FileFingerprint of(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(attributes.lastModifiedTime(), attributes.size());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FileFingerprint // instanceof handles nulls
+                && lastModifiedTime.equals(((FileFingerprint) other).lastModifiedTime)
+                && size == ((FileFingerprint) other).size);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastModifiedTime, size);
+    }
+
+    @Override
+    public String toString() {
+        return size + " bytes, modified " + lastModifiedTime;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.flashnotes.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.flashnotes.commons.core.LogsCenter;
+import seedu.flashnotes.commons.exceptions.DataConversionException;
+import seedu.flashnotes.model.ReadOnlyFlashNotes;
+
+/**
+ * Watches the data file of a {@code JsonFlashNotesStorage} for changes made outside the app.
+ * When the file changes, it is read and validated on the watcher's own thread and the result is passed to
+ * the change handler, which is responsible for applying it on the right thread.
+ * Changes written by the storage itself are ignored.
+ */
+public class FlashNotesFileWatcher {
+
+    /** Time to wait for a burst of file events to settle before reading the file. */
+    private static final long SETTLE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(FlashNotesFileWatcher.class);
+
+    private final JsonFlashNotesStorage storage;
+    private final Consumer<ReadOnlyFlashNotes> changeHandler;
+    private WatchService watchService;
+
+    /**
+     * Creates a watcher for the data file of {@code storage} that passes externally changed data to
+     * {@code changeHandler}. The handler is called on the watcher thread.
+     */
+    public FlashNotesFileWatcher(JsonFlashNotesStorage storage, Consumer<ReadOnlyFlashNotes> changeHandler) {
+        requireNonNull(storage);
+        requireNonNull(changeHandler);
+        this.storage = storage;
+        this.changeHandler = changeHandler;
+    }
+
+    /**
+     * Starts watching the data file on a background daemon thread.
+     * @throws IOException if the directory of the data file cannot be watched.
+     */
+    public void start() throws IOException {
+        Path directory = storage.getFlashNotesFilePath().toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread watcherThread = new Thread(this::watch, "flashnotes-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        logger.info("Watching " + storage.getFlashNotesFilePath() + " for external changes");
+    }
+
+    /**
+     * Stops watching the data file.
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching the data file: " + e);
+        }
+    }
+
+    private void watch() {
+        Path fileName = storage.getFlashNotesFilePath().getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isDataFileTouched = hasEventFor(key, fileName);
+                key.reset();
+                if (!isDataFileTouched) {
+                    continue;
+                }
+
+                // Let the writer finish, then fold the events it caused into a single reload
+                Thread.sleep(SETTLE_DELAY_MILLIS);
+                for (WatchKey pendingKey = watchService.poll(); pendingKey != null; pendingKey = watchService.poll()) {
+                    pendingKey.pollEvents();
+                    pendingKey.reset();
+                }
+                reloadIfChangedExternally();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching the data file");
+        }
+    }
+
+    private static boolean hasEventFor(WatchKey key, Path fileName) {
+        boolean hasEvent = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            hasEvent |= event.kind() == OVERFLOW || fileName.equals(event.context());
+        }
+        return hasEvent;
+    }
+
+    /**
+     * Reads the data file and passes it to the change handler, unless it is unchanged since the storage
+     * last read or wrote it. Data that cannot be read is logged and otherwise ignored, so that a half-written
+     * or invalid file never replaces the data in the app.
+     */
+    void reloadIfChangedExternally() {
+        try {
+            if (!storage.isChangedExternally()) {
+                return;
+            }
+            logger.info("Data file " + storage.getFlashNotesFilePath() + " was changed externally, reloading");
+            Optional<ReadOnlyFlashNotes> flashNotes = storage.readFlashNotes();
+            flashNotes.ifPresent(changeHandler);
+        } catch (DataConversionException e) {
+            logger.warning("Externally changed data file is not in the correct format, ignoring it: " + e);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the externally changed data file, ignoring it: " + e);
+        }
+    }
+}
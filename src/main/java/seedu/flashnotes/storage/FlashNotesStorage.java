@@ -45,4 +45,22 @@ public interface FlashNotesStorage {
      */
     void saveFlashNotes(ReadOnlyFlashNotes flashNotes, Path filePath, UniqueDeckList deckList) throws IOException;
 
+    /**
+     * Returns the work of saving {@code flashNotes} and {@code deckList} as they are now to the storage.
+     * The data is copied before returning, so the work can be done later on another thread while the data
+     * continues to change.
+     */
+    SaveTask prepareSaveFlashNotes(ReadOnlyFlashNotes flashNotes, UniqueDeckList deckList);
+
+    /**
+     * Writes data that has already been copied, so it can be done on any thread.
+     */
+    @FunctionalInterface
+    interface SaveTask {
+        /**
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void save() throws IOException;
+    }
+
 }
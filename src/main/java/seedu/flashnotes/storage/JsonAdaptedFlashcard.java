@@ -19,16 +19,19 @@ class JsonAdaptedFlashcard {
     private final String question;
     private final String answer;
     private final String tag;
+    private final Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details.
+     * {@code id} is null for flashcards saved before flashcards had IDs.
      */
     @JsonCreator
     public JsonAdaptedFlashcard(@JsonProperty("question") String question, @JsonProperty("answer") String answer,
-                                @JsonProperty("tag") String tag) {
+                                @JsonProperty("tag") String tag, @JsonProperty("id") Integer id) {
         this.question = question;
         this.answer = answer;
         this.tag = tag;
+        this.id = id;
     }
 
     /**
@@ -38,14 +41,33 @@ class JsonAdaptedFlashcard {
         question = source.getQuestion().question;
         answer = source.getAnswer().value;
         tag = source.getTag().tagName;
+        id = source.getId();
+    }
+
+    /**
+     * Returns the saved ID of the flashcard, or null if it was saved without one.
+     */
+    Integer getId() {
+        return id;
     }
 
     /**
      * Converts this Jackson-friendly adapted flashcard object into the model's {@code Flashcard} object.
+     * A flashcard saved without an ID is given a new one.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted flashcard.
      */
     public Flashcard toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted flashcard object into the model's {@code Flashcard} object,
+     * giving it {@code newId} if it was saved without an ID, or a new ID if {@code newId} is null.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted flashcard.
+     */
+    Flashcard toModelType(Integer newId) throws IllegalValueException {
         if (question == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Question.class.getSimpleName()));
@@ -70,9 +92,16 @@ class JsonAdaptedFlashcard {
         if (!Tag.isValidTagName(tag)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        final Tag modelTag = new Tag(tag);
+        final Tag modelTag = Tag.of(tag);
 
-        return new Flashcard(modelQuestion, modelAnswer, modelTag);
+        final Integer modelId = id == null ? newId : id;
+        if (modelId == null) {
+            return new Flashcard(modelQuestion, modelAnswer, modelTag);
+        }
+        if (!Flashcard.isValidId(modelId)) {
+            throw new IllegalValueException(Flashcard.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Flashcard(modelQuestion, modelAnswer, modelTag, modelId);
     }
 
 }
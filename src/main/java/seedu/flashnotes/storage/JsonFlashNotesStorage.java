@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,21 +18,45 @@ import seedu.flashnotes.model.deck.UniqueDeckList;
 
 /**
  * A class to access FlashNotes data stored as a json file on the hard disk.
+ * The file can optionally be gzip-compressed; compressed files are detected automatically when reading.
  */
 public class JsonFlashNotesStorage implements FlashNotesStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonFlashNotesStorage.class);
 
     private Path filePath;
+    private boolean isCompressed;
+
+    /** Version of the data file as this storage last read or wrote it, to tell its own writes from external ones. */
+    private volatile FileFingerprint lastKnownFingerprint;
 
     public JsonFlashNotesStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonFlashNotesStorage} that saves to {@code filePath}, gzip-compressed if {@code isCompressed}.
+     */
+    public JsonFlashNotesStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     public Path getFlashNotesFilePath() {
         return filePath;
     }
 
+    public boolean getIsCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * Returns true if the data file has been changed by someone else since this storage last read or wrote it.
+     */
+    public boolean isChangedExternally() throws IOException {
+        return !Objects.equals(FileFingerprint.of(filePath), lastKnownFingerprint);
+    }
+
     @Override
     public Optional<ReadOnlyFlashNotes> readFlashNotes() throws DataConversionException {
         return readFlashNotes(filePath);
@@ -46,6 +71,14 @@ public class JsonFlashNotesStorage implements FlashNotesStorage {
     public Optional<ReadOnlyFlashNotes> readFlashNotes(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        if (filePath.equals(this.filePath)) {
+            // Taken before reading, so that a change made while the file is being read is not mistaken as seen
+            try {
+                lastKnownFingerprint = FileFingerprint.of(filePath);
+            } catch (IOException ioe) {
+                throw new DataConversionException(ioe);
+            }
+        }
         Optional<JsonSerializableFlashNotes> jsonFlashNotes = JsonUtil.readJsonFile(
                 filePath, JsonSerializableFlashNotes.class);
         if (!jsonFlashNotes.isPresent()) {
@@ -77,8 +110,24 @@ public class JsonFlashNotesStorage implements FlashNotesStorage {
         requireNonNull(filePath);
         requireNonNull(deckList);
 
+        save(new JsonSerializableFlashNotes(flashNotes, deckList), filePath);
+    }
+
+    @Override
+    public SaveTask prepareSaveFlashNotes(ReadOnlyFlashNotes flashNotes, UniqueDeckList deckList) {
+        requireNonNull(flashNotes);
+        requireNonNull(deckList);
+
+        JsonSerializableFlashNotes data = new JsonSerializableFlashNotes(flashNotes, deckList);
+        return () -> save(data, filePath);
+    }
+
+    private void save(JsonSerializableFlashNotes data, Path filePath) throws IOException {
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashNotes(flashNotes, deckList), filePath);
+        JsonUtil.saveJsonFile(data, filePath, isCompressed);
+        if (filePath.equals(this.filePath)) {
+            lastKnownFingerprint = FileFingerprint.of(filePath);
+        }
     }
 
 }
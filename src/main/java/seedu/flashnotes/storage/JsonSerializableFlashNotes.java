@@ -2,8 +2,12 @@ package seedu.flashnotes.storage;
 import static seedu.flashnotes.logic.commands.AddDeckCommand.MESSAGE_DUPLICATE_DECK;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -24,6 +28,10 @@ import seedu.flashnotes.model.flashcard.Flashcard;
 class JsonSerializableFlashNotes {
 
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcards list contains duplicate flashcard(s).";
+    public static final String MESSAGE_DUPLICATE_FLASHCARD_ID = "Flashcards list contains duplicate flashcard ID(s).";
+
+    /** Minimum number of flashcards before conversion is spread over the common fork-join pool. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
 
     private final List<JsonAdaptedFlashcard> flashcards = new ArrayList<>();
     private final List<JsonAdaptedDeck> decks = new ArrayList<>();
@@ -53,28 +61,84 @@ class JsonSerializableFlashNotes {
 
     /**
      * Converts this flashnotes into the model's {@code FlashNotes} object.
+     * Large flashcard lists are converted and validated in parallel. If several entries are invalid,
+     * the error reported is the one for the earliest entry, as if the list had been converted in order.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public FlashNotes toModelType() throws IllegalValueException {
         FlashNotes flashNotes = new FlashNotes();
-        for (JsonAdaptedFlashcard jsonAdaptedFlashcard : flashcards) {
-            Flashcard flashcard = jsonAdaptedFlashcard.toModelType();
-            if (flashNotes.hasFlashcard(flashcard)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
-            }
-            flashNotes.addFlashcard(flashcard);
-        }
+        flashNotes.setFlashcards(toModelFlashcards());
+
+        Set<Deck> seenDecks = new HashSet<>();
+        List<Deck> modelDecks = new ArrayList<>(decks.size());
         // For each deck info read
         for (JsonAdaptedDeck jsonAdaptedDeck : decks) {
             Deck theDeck = jsonAdaptedDeck.toModelType();
-            if (flashNotes.hasDeck(theDeck)) {
+            if (!seenDecks.add(theDeck)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_DECK);
             }
-            flashNotes.addDeck(theDeck);
+            modelDecks.add(theDeck);
         }
+        flashNotes.setDecks(modelDecks);
 
         return flashNotes;
     }
 
+    /**
+     * Converts the adapted flashcards into the model's {@code Flashcard} objects, preserving their order.
+     * Flashcards saved without an ID are numbered in order from above the largest saved ID, so that they cannot
+     * take the ID of a flashcard further down the file.
+     *
+     * @throws IllegalValueException if a flashcard is invalid or appears more than once, or two flashcards have the
+     *     same ID.
+     */
+    private List<Flashcard> toModelFlashcards() throws IllegalValueException {
+        int size = flashcards.size();
+        Flashcard[] converted = new Flashcard[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+
+        int nextId = 0;
+        for (JsonAdaptedFlashcard flashcard : flashcards) {
+            Integer id = flashcard.getId();
+            if (id != null && Flashcard.isValidId(id)) {
+                nextId = Math.max(nextId, id + 1);
+            }
+        }
+        Integer[] newIds = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            if (flashcards.get(i).getId() == null) {
+                newIds[i] = nextId++;
+            }
+        }
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                converted[i] = flashcards.get(i).toModelType(newIds[i]);
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        // Flashcard#equals is the same relation as Flashcard#isSameFlashcard, so a hash set finds duplicates
+        Set<Flashcard> seenFlashcards = new HashSet<>(size * 2);
+        Set<Integer> seenIds = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (!seenFlashcards.add(converted[i])) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
+            }
+            if (!seenIds.add(converted[i].getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD_ID);
+            }
+        }
+        return Arrays.asList(converted);
+    }
+
 }
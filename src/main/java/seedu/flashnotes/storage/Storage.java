@@ -3,6 +3,7 @@ package seedu.flashnotes.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.flashnotes.commons.exceptions.DataConversionException;
 import seedu.flashnotes.model.ReadOnlyFlashNotes;
@@ -30,4 +31,18 @@ public interface Storage extends FlashNotesStorage, UserPrefsStorage {
     @Override
     void saveFlashNotes(ReadOnlyFlashNotes flashNotes, UniqueDeckList deckList) throws IOException;
 
+    /**
+     * Saves {@code flashNotes} and {@code deckList} as they are now on a background thread. Saves are written in
+     * the order they are started, and a save that has not started writing when the next one is started is
+     * skipped, as it would be overwritten straight away.
+     *
+     * @return the save, which completes once the data is written, or fails with the exception that stopped it.
+     */
+    CompletableFuture<Void> saveFlashNotesInBackground(ReadOnlyFlashNotes flashNotes, UniqueDeckList deckList);
+
+    /**
+     * Waits for the saves started in the background to finish.
+     */
+    void waitForBackgroundSaves();
+
 }
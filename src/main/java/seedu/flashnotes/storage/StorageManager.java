@@ -3,6 +3,7 @@ package seedu.flashnotes.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.flashnotes.commons.core.LogsCenter;
@@ -20,6 +21,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private FlashNotesStorage flashNotesStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver();
 
     /**
      * Creates a {@code StorageManager} with the given {@code FlashNotesStorage} and {@code UserPrefStorage}.
@@ -62,7 +64,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyFlashNotes> readFlashNotes(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return flashNotesStorage.readFlashNotes(filePath);
     }
 
@@ -74,8 +76,26 @@ public class StorageManager implements Storage {
     @Override
     public void saveFlashNotes(ReadOnlyFlashNotes flashNotes, Path filePath, UniqueDeckList deckList)
             throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         flashNotesStorage.saveFlashNotes(flashNotes, filePath, deckList);
     }
 
+    @Override
+    public SaveTask prepareSaveFlashNotes(ReadOnlyFlashNotes flashNotes, UniqueDeckList deckList) {
+        return flashNotesStorage.prepareSaveFlashNotes(flashNotes, deckList);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveFlashNotesInBackground(ReadOnlyFlashNotes flashNotes,
+            UniqueDeckList deckList) {
+        logger.fine(() -> "Attempting to write to data file in the background: "
+                + flashNotesStorage.getFlashNotesFilePath());
+        return backgroundSaver.save(prepareSaveFlashNotes(flashNotes, deckList));
+    }
+
+    @Override
+    public void waitForBackgroundSaves() {
+        backgroundSaver.waitForSaves();
+    }
+
 }
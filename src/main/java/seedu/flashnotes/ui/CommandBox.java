@@ -1,9 +1,17 @@
 package seedu.flashnotes.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.flashnotes.logic.CommandHistory;
+import seedu.flashnotes.logic.Logic;
 import seedu.flashnotes.logic.commands.CommandResult;
 import seedu.flashnotes.logic.commands.exceptions.CommandException;
 import seedu.flashnotes.logic.parser.exceptions.ParseException;
@@ -15,20 +23,126 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final KeyCombination SEARCH_HISTORY_KEYS =
+            new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
+    private static final int NOT_RECALLING = -1;
 
     private final CommandExecutor commandExecutor;
+    private final Logic logic;
+
+    /** The index in the command history of the command shown, or {@code NOT_RECALLING}. */
+    private int historyIndex = NOT_RECALLING;
+    /** The text typed before the user started going through the command history. */
+    private String typedText = "";
+    /** The indices of the commands starting with the text searched for, or null if not searching. */
+    private List<Integer> searchMatches;
+    /** The position in {@code searchMatches} of the command shown. */
+    private int searchPosition;
+    private boolean isShowingRecalledCommand;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which recalls and completes commands
+     * with {@code logic}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Logic logic) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.logic = logic;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            if (!isShowingRecalledCommand) {
+                stopRecalling();
+            }
+        });
+        // Filtered before the text field handles them, so Tab does not move the focus
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    /**
+     * Recalls the previous or next command with Up and Down, searches for older commands that start with the
+     * text typed with Ctrl-R, and completes the command word or deck name being typed with Tab.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.UP) {
+            recallPreviousCommand();
+        } else if (event.getCode() == KeyCode.DOWN) {
+            recallNextCommand();
+        } else if (SEARCH_HISTORY_KEYS.match(event)) {
+            searchHistory();
+        } else if (event.getCode() == KeyCode.TAB) {
+            completeCommand();
+        } else {
+            return;
+        }
+        event.consume();
+    }
+
+    private void recallPreviousCommand() {
+        CommandHistory commandHistory = logic.getCommandHistory();
+        if (historyIndex == NOT_RECALLING) {
+            typedText = commandTextField.getText();
+            historyIndex = commandHistory.size();
+        }
+        if (historyIndex > 0) {
+            historyIndex--;
+            showRecalledCommand(commandHistory.get(historyIndex));
+        }
+    }
+
+    private void recallNextCommand() {
+        if (historyIndex == NOT_RECALLING) {
+            return;
+        }
+        CommandHistory commandHistory = logic.getCommandHistory();
+        historyIndex++;
+        if (historyIndex < commandHistory.size()) {
+            showRecalledCommand(commandHistory.get(historyIndex));
+        } else {
+            String text = typedText;
+            stopRecalling();
+            showRecalledCommand(text);
+        }
+    }
+
+    /**
+     * Shows the next older command that starts with the text typed before the first Ctrl-R.
+     */
+    private void searchHistory() {
+        CommandHistory commandHistory = logic.getCommandHistory();
+        if (searchMatches == null) {
+            if (historyIndex == NOT_RECALLING) {
+                typedText = commandTextField.getText();
+            }
+            searchMatches = commandHistory.getIndicesStartingWith(commandTextField.getText());
+            searchPosition = searchMatches.size();
+        }
+        if (searchPosition > 0) {
+            searchPosition--;
+            historyIndex = searchMatches.get(searchPosition);
+            showRecalledCommand(commandHistory.get(historyIndex));
+        }
+    }
+
+    private void completeCommand() {
+        String completedText = logic.completeCommand(commandTextField.getText());
+        commandTextField.setText(completedText);
+        commandTextField.positionCaret(completedText.length());
+    }
+
+    private void showRecalledCommand(String command) {
+        isShowingRecalledCommand = true;
+        commandTextField.setText(command);
+        commandTextField.positionCaret(command.length());
+        isShowingRecalledCommand = false;
+    }
+
+    private void stopRecalling() {
+        historyIndex = NOT_RECALLING;
+        searchMatches = null;
     }
 
     /**
@@ -36,6 +150,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        stopRecalling();
         try {
             commandExecutor.execute(commandTextField.getText());
             commandTextField.setText("");
@@ -1,5 +1,7 @@
 package seedu.flashnotes.ui;
 
+import java.util.Objects;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
@@ -40,11 +42,25 @@ public class DeckCard extends UiPart<Region> {
     @FXML
     private Label resultStatistics;
 
+    /**
+     * Creates an empty {@code DeckCard}, to be filled in with {@link #setDeck(Deck, int)}.
+     */
+    public DeckCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code cardDeck} with the given {@code deckName} and index to display.
      */
     public DeckCard(Deck cardDeck, int displayedIndex) {
-        super(FXML);
+        this();
+        setDeck(cardDeck, displayedIndex);
+    }
+
+    /**
+     * Shows {@code cardDeck} with {@code displayedIndex} on this card in place of the deck it showed before.
+     */
+    public void setDeck(Deck cardDeck, int displayedIndex) {
         this.cardDeck = cardDeck;
         deckName.setText(cardDeck.getDeckName());
         id.setText(displayedIndex + ". ");
@@ -72,6 +88,6 @@ public class DeckCard extends UiPart<Region> {
         DeckCard card = (DeckCard) other;
         return id.getText().equals(card.id.getText())
                 && deckName.equals(card.deckName)
-                && cardDeck.equals(card.cardDeck);
+                && Objects.equals(cardDeck, card.cardDeck);
     }
 }
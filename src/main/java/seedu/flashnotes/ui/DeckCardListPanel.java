@@ -26,10 +26,22 @@ public class DeckCardListPanel extends UiPart<Region> {
         deckCardListView.setCellFactory(listView -> new DeckCardListViewCell());
     }
 
+    /**
+     * Shows {@code deckList} in place of the list shown before, if it is a different list.
+     */
+    public void setDeckList(ObservableList<Deck> deckList) {
+        if (deckCardListView.getItems() != deckList) {
+            deckCardListView.setItems(deckList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Deck} using a {@code DeckCard}.
      */
     class DeckCardListViewCell extends ListCell<Deck> {
+        // Loaded the first time this cell shows a deck, then reused for every deck it shows
+        private DeckCard card;
+
         @Override
         protected void updateItem(Deck deck, boolean empty) {
             super.updateItem(deck, empty);
@@ -38,7 +50,11 @@ public class DeckCardListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DeckCard(deck, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new DeckCard();
+                }
+                card.setDeck(deck, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,6 +1,8 @@
 package seedu.flashnotes.ui;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -27,7 +29,8 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
 
     private DeckCardListPanel deckCardListPanel;
     private ResultDisplay resultDisplay;
-    private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
+    private CommandBox commandBox;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -61,7 +64,6 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
-        helpWindow = new HelpWindow();
         setAccelerators();
     }
 
@@ -113,13 +115,18 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, logic);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    @Override
+    public void refresh() {
+        deckCardListPanel.setDeckList(logic.getFilteredCardDeckList());
+    }
+
     @Override
     public void setFeedbackToUser(String s) {
         resultDisplay.setFeedbackToUser(s);
@@ -143,6 +150,7 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
      */
     @FXML
     public void handleHelp() {
+        HelpWindow helpWindow = mainWindow.getHelpWindow();
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -163,7 +171,7 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        mainWindow.hideHelpWindow();
         primaryStage.hide();
     }
 
@@ -179,6 +187,7 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
+            statusBarFooter.showSave(logic.getLastSave());
 
 
             if (commandResult.isShowHelp()) {
@@ -194,17 +203,26 @@ public class DeckCardListRoot extends UiPart<Region> implements RootNode {
                 GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                         (int) primaryStage.getX(), (int) primaryStage.getY());
                 logic.setGuiSettings(guiSettings);
-                RootNode rootNode = new FlashcardListRoot(mainWindow, logic);
 
-                mainWindow.setRootNode(rootNode, commandResult);
+                mainWindow.showFlashcardList(commandResult);
 
             }
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(resultDisplay::showProgress);
+            CompletableFuture<String> pendingCommand = logic.getPendingCommand();
+            if (!pendingCommand.isDone()) {
+                // The data is changed once the slow part of the command is done, no command can run until then
+                commandBox.disable();
+                pendingCommand.whenComplete((unused, error) -> Platform.runLater(() -> {
+                    commandBox.enable();
+                    statusBarFooter.showSave(logic.getLastSave());
+                }));
+            }
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -1,5 +1,6 @@
 package seedu.flashnotes.ui;
 
+import java.util.Objects;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -23,7 +24,7 @@ public class FlashcardCard extends UiPart<Region> {
      */
     //todo change the link here
 
-    public final Flashcard flashcard;
+    private Flashcard flashcard;
 
     @FXML
     private HBox cardPane;
@@ -36,11 +37,26 @@ public class FlashcardCard extends UiPart<Region> {
     //    @FXML
     //    private Label tag;
 
+    /**
+     * Creates an empty {@code FlashcardCard}, to be filled in with {@link #setFlashcard(Flashcard, int)}.
+     */
+    public FlashcardCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code FlashcardCard} with the given {@code Flashcard} and index to display.
      */
     public FlashcardCard(Flashcard flashcard, int displayedIndex) {
-        super(FXML);
+        this();
+        setFlashcard(flashcard, displayedIndex);
+    }
+
+    /**
+     * Shows {@code flashcard} with {@code displayedIndex} on this card in place of the flashcard it showed before.
+     * Lets a list cell reuse its card rather than loading a new one for every flashcard it shows.
+     */
+    public void setFlashcard(Flashcard flashcard, int displayedIndex) {
         this.flashcard = flashcard;
         id.setText(displayedIndex + ". ");
         question.setText(flashcard.getQuestion().question);
@@ -48,6 +64,10 @@ public class FlashcardCard extends UiPart<Region> {
         //tag.setText(flashcard.getTag().tagName);
     }
 
+    public Flashcard getFlashcard() {
+        return flashcard;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -63,6 +83,6 @@ public class FlashcardCard extends UiPart<Region> {
         // state check
         FlashcardCard card = (FlashcardCard) other;
         return id.getText().equals(card.id.getText())
-                && flashcard.equals(card.flashcard);
+                && Objects.equals(flashcard, card.flashcard);
     }
 }
@@ -29,10 +29,22 @@ public class FlashcardListPanel extends UiPart<Region> {
         flashcardListView.setCellFactory(listView -> new FlashcardListViewCell());
     }
 
+    /**
+     * Shows {@code flashcardList} in place of the list shown before, if it is a different list.
+     */
+    public void setFlashcardList(ObservableList<Flashcard> flashcardList) {
+        if (flashcardListView.getItems() != flashcardList) {
+            flashcardListView.setItems(flashcardList);
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Flashcard} using a {@code FlashcardCard}.
      */
     class FlashcardListViewCell extends ListCell<Flashcard> {
+        // Loaded the first time this cell shows a flashcard, then reused for every flashcard it shows
+        private FlashcardCard card;
+
         @Override
         protected void updateItem(Flashcard flashcard, boolean empty) {
             super.updateItem(flashcard, empty);
@@ -41,7 +53,11 @@ public class FlashcardListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FlashcardCard(flashcard, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new FlashcardCard();
+                }
+                card.setFlashcard(flashcard, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,6 +1,8 @@
 package seedu.flashnotes.ui;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -29,7 +31,8 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
     // Independent Ui parts residing in this Ui container
     private FlashcardListPanel flashcardListPanel;
     private ResultDisplay resultDisplay;
-    private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
+    // Created when the first review starts, or in the background if windows are preloaded, then reused
     private ReviewWindow reviewWindow;
     private CommandBox commandBox;
 
@@ -56,9 +59,6 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
         this.mainWindow = mainWindow;
         this.logic = logic;
         setAccelerators();
-
-        helpWindow = new HelpWindow();
-        reviewWindow = new ReviewWindow(logic, mainWindow);
     }
 
     private void setAccelerators() {
@@ -104,13 +104,26 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        this.commandBox = new CommandBox(this::executeCommand);
+        this.commandBox = new CommandBox(this::executeCommand, logic);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows the current filtered list of flashcards. The review window is kept for the next review session,
+     * which starts from the flashcards of the deck that is open at that time.
+     */
+    @Override
+    public void refresh() {
+        flashcardListPanel.setFlashcardList(logic.getFilteredFlashcardList());
+        enableCommandBox();
+        if (reviewWindow == null && mainWindow.getIsPreloadingWindows()) {
+            mainWindow.runAfterNextFrame(this::getReviewWindow);
+        }
+    }
+
     @Override
     public void setFeedbackToUser(String s) {
         resultDisplay.setFeedbackToUser(s);
@@ -121,6 +134,7 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
      */
     @FXML
     public void handleHelp() {
+        HelpWindow helpWindow = mainWindow.getHelpWindow();
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -132,6 +146,7 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
      */
     @FXML
     public void handleReview() {
+        ReviewWindow reviewWindow = getReviewWindow();
         if (!reviewWindow.isShowing()) {
             disableCommandBox();
             reviewWindow.show();
@@ -140,6 +155,16 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
         }
     }
 
+    /**
+     * Returns the review window, creating it if it has not been created yet.
+     */
+    private ReviewWindow getReviewWindow() {
+        if (reviewWindow == null) {
+            reviewWindow = new ReviewWindow(logic, mainWindow);
+        }
+        return reviewWindow;
+    }
+
     /**
      * Closes the application.
      */
@@ -149,8 +174,10 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
-        reviewWindow.hide();
+        mainWindow.hideHelpWindow();
+        if (reviewWindow != null) {
+            reviewWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -179,8 +206,19 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            statusBarFooter.showSave(logic.getLastSave());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(resultDisplay::showProgress);
+            CompletableFuture<String> pendingCommand = logic.getPendingCommand();
+            if (!pendingCommand.isDone()) {
+                // The data is changed once the slow part of the command is done, no command can run until then
+                disableCommandBox();
+                pendingCommand.whenComplete((unused, error) -> Platform.runLater(() -> {
+                    enableCommandBox();
+                    statusBarFooter.showSave(logic.getLastSave());
+                }));
+            }
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -201,14 +239,12 @@ public class FlashcardListRoot extends UiPart<Region> implements RootNode {
                         (int) primaryStage.getX(), (int) primaryStage.getY());
                 logic.setGuiSettings(guiSettings);
 
-                RootNode rootNode = new DeckCardListRoot(mainWindow, logic);
-
-                mainWindow.setRootNode(rootNode, commandResult);
+                mainWindow.showDeckList(commandResult);
             }
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
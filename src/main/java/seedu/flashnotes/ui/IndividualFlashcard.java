@@ -49,9 +49,12 @@ public class IndividualFlashcard extends UiPart<Region> {
     }
 
     /**
-     * Initializes the content of the flashcards to review in display.
+     * Starts a new review session with the flashcards to review in the current deck.
      */
     public void init() {
+        this.index = 0;
+        this.count = 0;
+        this.correctAnswers = 0;
         this.flashcardsToReview = logic.getFlashcardsToReview();
         this.numOfFlashcards = flashcardsToReview.size();
     }
@@ -1,10 +1,14 @@
 package seedu.flashnotes.ui;
 
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
 import javafx.scene.layout.Region;
 import javafx.stage.Stage;
 import seedu.flashnotes.commons.core.GuiSettings;
+import seedu.flashnotes.commons.core.LogsCenter;
 import seedu.flashnotes.logic.Logic;
 import seedu.flashnotes.logic.commands.CommandResult;
 
@@ -17,23 +21,38 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private final Logger logger = LogsCenter.getLogger(getClass());
+
     private Stage primaryStage;
     private Logic logic;
 
     private RootNode rootNode;
 
+    // Created once and reused every time the user moves between the deck list and a deck
+    private final DeckCardListRoot deckCardListRoot;
+    private FlashcardListRoot flashcardListRoot;
+
+    // Created the first time it is needed and shared by all the root nodes
+    private HelpWindow helpWindow;
+    private final boolean isPreloadingWindows;
+
     /**
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     *
+     * @param isPreloadingWindows whether secondary windows should be created in the background once the window they
+     *     belong to is showing, rather than when they are first opened.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, boolean isPreloadingWindows) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.isPreloadingWindows = isPreloadingWindows;
 
         //initialize the deck list root node as the primary scene
-        rootNode = new DeckCardListRoot(this, logic);
+        deckCardListRoot = new DeckCardListRoot(this, logic);
+        rootNode = deckCardListRoot;
 
         Region root = rootNode.getFxmlLoader().getRoot();
         primaryStage.setScene(new Scene(root));
@@ -46,6 +65,60 @@ public class MainWindow extends UiPart<Stage> {
         return primaryStage;
     }
 
+    boolean getIsPreloadingWindows() {
+        return isPreloadingWindows;
+    }
+
+    /**
+     * Returns the help window, creating it if it has not been opened before.
+     */
+    HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+        return helpWindow;
+    }
+
+    /**
+     * Hides the help window if it has been created.
+     */
+    void hideHelpWindow() {
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
+    }
+
+    /**
+     * Creates the secondary windows that have not been opened yet, so that they open without a delay later.
+     */
+    void preloadSecondaryWindows() {
+        getHelpWindow();
+    }
+
+    /**
+     * Runs {@code action} once, on the JavaFX Application Thread, after the next frame of this window is drawn.
+     * Work done this way does not hold up what the user sees first.
+     */
+    void runAfterNextFrame(Runnable action) {
+        Scene scene = primaryStage.getScene();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean hasRun;
+
+            @Override
+            public void run() {
+                if (hasRun) {
+                    return;
+                }
+                hasRun = true;
+                // Runs once the pulse has finished drawing the frame, when listeners can also be removed
+                Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    action.run();
+                });
+            }
+        });
+    }
+
     /**
      * Fills up all the placeholders of this window.
      */
@@ -69,20 +142,46 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.show();
     }
 
+    /**
+     * Shows the list of decks.
+     *
+     * @param commandResult Command Result which contains the right message for the user.
+     */
+    public void showDeckList(CommandResult commandResult) {
+        setRootNode(deckCardListRoot, commandResult);
+    }
+
+    /**
+     * Shows the list of flashcards, creating it the first time it is shown.
+     *
+     * @param commandResult Command Result which contains the right message for the user.
+     */
+    public void showFlashcardList(CommandResult commandResult) {
+        if (flashcardListRoot == null) {
+            flashcardListRoot = new FlashcardListRoot(this, logic);
+            flashcardListRoot.fillInnerParts();
+        }
+        setRootNode(flashcardListRoot, commandResult);
+    }
+
     /**
      * Sets the new root node object for the MainWindow.
+     * The placeholders of {@code rootNode} must have been filled in already.
      *
      * @param rootNode The new root node to be rendered.
      * @param commandResult Command Result which contains the right message for the user.
      */
-    public void setRootNode(RootNode rootNode, CommandResult commandResult) {
+    private void setRootNode(RootNode rootNode, CommandResult commandResult) {
+        long startNanos = System.nanoTime();
         this.rootNode = rootNode;
+        rootNode.refresh();
         Region root = rootNode.getFxmlLoader().getRoot();
         primaryStage.getScene().setRoot(root);
         primaryStage.show();
 
-        this.rootNode.fillInnerParts();
         this.rootNode.setFeedbackToUser(commandResult.getFeedbackToUser());
+        runAfterNextFrame(() -> logger.info(() -> String.format("Switched to %s in %d ms",
+                rootNode.getClass().getSimpleName(), (System.nanoTime() - startNanos) / 1_000_000)));
     }
 
     /**
@@ -2,9 +2,12 @@ package seedu.flashnotes.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import seedu.flashnotes.logic.commands.BackgroundTask;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
@@ -16,6 +19,9 @@ public class ResultDisplay extends UiPart<Region> {
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private ProgressBar progressBar;
+
     public ResultDisplay() {
         super(FXML);
     }
@@ -25,4 +31,18 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows the progress of {@code task} until it ends, then shows its result.
+     */
+    public void showProgress(BackgroundTask task) {
+        requireNonNull(task);
+        progressBar.setProgress(task.getProgress());
+        progressBar.setVisible(true);
+        task.addProgressListener(progress -> Platform.runLater(() -> progressBar.setProgress(progress)));
+        task.getResult().whenComplete((message, error) -> Platform.runLater(() -> {
+            progressBar.setVisible(false);
+            setFeedbackToUser(error == null ? message : error.getMessage());
+        }));
+    }
+
 }
@@ -4,7 +4,6 @@ import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.ProgressBar;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
@@ -27,7 +26,7 @@ public class ReviewWindow extends UiPart<Stage> {
     private Logic logic;
     private CommandBox commandBox;
     private ResultDisplay resultDisplay;
-    private HelpWindow helpWindow;
+    private StatusBarFooter statusBarFooter;
     private IndividualFlashcard individualFlashcard;
 
     private MainWindow mainWindow;
@@ -56,10 +55,9 @@ public class ReviewWindow extends UiPart<Stage> {
     public ReviewWindow(Logic logic, MainWindow mainWindow) {
         super(FXML, new Stage());
         this.logic = logic;
-        this.helpWindow = new HelpWindow();
         this.mainWindow = mainWindow;
 
-        this.commandBox = new CommandBox(this::executeCommand);
+        this.commandBox = new CommandBox(this::executeCommand, logic);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         this.resultDisplay = new ResultDisplay();
@@ -68,7 +66,7 @@ public class ReviewWindow extends UiPart<Stage> {
         this.individualFlashcard = new IndividualFlashcard(logic);
         individualFlashcardPlaceholder.getChildren().add(individualFlashcard.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getFlashNotesFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         this.progressBar = new ProgressBar(0);
@@ -76,6 +74,10 @@ public class ReviewWindow extends UiPart<Stage> {
 
         // Initial state of isComplete is False
         this.isComplete = false;
+
+        // The style can only be set before the window is first shown, so that the window can be reused
+        getRoot().setAlwaysOnTop(true);
+        getRoot().initStyle(StageStyle.UTILITY);
     }
 
     /**
@@ -98,10 +100,12 @@ public class ReviewWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing review page about the application.");
+        // The window may have been used for an earlier review session
+        this.isComplete = false;
+        progressBar.setProgress(0);
+        resultDisplay.setFeedbackToUser("");
         this.individualFlashcard.init();
         this.individualFlashcard.displayFlashcard();
-        getRoot().setAlwaysOnTop(true);
-        getRoot().initStyle(StageStyle.UTILITY);
         getRoot().showAndWait();
         // After manual closing
         this.handleExit();
@@ -176,6 +180,7 @@ public class ReviewWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        HelpWindow helpWindow = mainWindow.getHelpWindow();
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -191,14 +196,8 @@ public class ReviewWindow extends UiPart<Stage> {
         // Turn off review mode in logic
         logic.setIsReviewModeFalse();
         // Hide help window
-        helpWindow.hide();
-        RootNode rootNode = new FlashcardListRoot(mainWindow, logic);
-        CommandResult commandResult = new CommandResult("Closed Review Window");
-        Region root = rootNode.getFxmlLoader().getRoot();
-        mainWindow.getPrimaryStage().getScene().setRoot(root);
-
-        rootNode.fillInnerParts();
-        rootNode.setFeedbackToUser(commandResult.getFeedbackToUser());
+        mainWindow.hideHelpWindow();
+        mainWindow.showFlashcardList(new CommandResult("Closed Review Window"));
     }
 
     /**
@@ -209,7 +208,8 @@ public class ReviewWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            statusBarFooter.showSave(logic.getLastSave());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             if (isComplete && !(commandResult.isExit())) {
                 // If session has ended, ban the usage of next command
                 throw new CommandException(MESSAGE_END_OF_REVIEW);
@@ -237,7 +237,7 @@ public class ReviewWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -10,6 +10,11 @@ public interface RootNode {
     void fillInnerParts();
     FXMLLoader getFxmlLoader();
 
+    /**
+     * Brings this root node, which may have been shown before, up to date with the model before it is shown.
+     */
+    void refresh();
+
     void setFeedbackToUser(String s);
     void handleExit();
 }
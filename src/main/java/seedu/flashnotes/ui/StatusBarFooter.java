@@ -1,19 +1,32 @@
 package seedu.flashnotes.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_SAVING = "Saving to ";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
+    /** How long a save runs before the status bar shows that it is saving, so that quick saves do not flicker. */
+    private static final Duration SAVING_MESSAGE_DELAY = Duration.millis(300);
+
+    private final String saveLocation;
+
     @FXML
     private Label saveLocationStatus;
 
@@ -22,7 +35,27 @@ public class StatusBarFooter extends UiPart<Region> {
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        this.saveLocation = Paths.get(".").resolve(saveLocation).toString();
+        saveLocationStatus.setText(this.saveLocation);
+    }
+
+    /**
+     * Shows that the data is being saved if {@code save} takes long to complete, and shows the message of the
+     * error if it fails.
+     */
+    public void showSave(CompletableFuture<Void> save) {
+        requireNonNull(save);
+        PauseTransition delay = new PauseTransition(SAVING_MESSAGE_DELAY);
+        delay.setOnFinished(unused -> {
+            if (!save.isDone()) {
+                saveLocationStatus.setText(MESSAGE_SAVING + saveLocation + "...");
+            }
+        });
+        delay.play();
+        save.whenComplete((unused, error) -> Platform.runLater(() -> {
+            delay.stop();
+            saveLocationStatus.setText(error == null ? saveLocation : error.getMessage());
+        }));
     }
 
 }
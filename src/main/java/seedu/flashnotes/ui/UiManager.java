@@ -24,13 +24,22 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private final boolean isPreloadingWindows;
+    private final long startNanos;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
+     *
+     * @param isPreloadingWindows whether secondary windows should be created in the background once the main
+     *     window is showing, rather than when they are first opened.
+     * @param startNanos the {@link System#nanoTime()} at which the app started, used to log how long it took
+     *     for the main window to be drawn.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, boolean isPreloadingWindows, long startNanos) {
         super();
         this.logic = logic;
+        this.isPreloadingWindows = isPreloadingWindows;
+        this.startNanos = startNanos;
     }
 
     @Override
@@ -41,9 +50,10 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, isPreloadingWindows);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.runAfterNextFrame(this::handleFirstFrame);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -51,6 +61,17 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Logs the start-up time and, if enabled, starts creating the windows that are not open yet.
+     */
+    private void handleFirstFrame() {
+        logger.info(() -> String.format("First frame drawn %d ms after start-up",
+                (System.nanoTime() - startNanos) / 1_000_000));
+        if (isPreloadingWindows) {
+            Platform.runLater(mainWindow::preloadSecondaryWindows);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
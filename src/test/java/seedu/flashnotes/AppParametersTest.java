@@ -37,6 +37,18 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setIsHeadless(true);
+        assertEquals(expected, AppParameters.parse("--config=config.json", AppParameters.HEADLESS_FLAG));
+    }
+
+    @Test
+    public void parse_rawArgumentsWithoutFlags_notHeadless() {
+        assertEquals(expected, AppParameters.parse("unnamed", "--=value"));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,89 @@
+package seedu.flashnotes;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashnotes.logic.LogicManager;
+import seedu.flashnotes.logic.commands.AddDeckCommand;
+import seedu.flashnotes.logic.commands.ExitCommand;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.storage.JsonFlashNotesStorage;
+import seedu.flashnotes.storage.JsonUserPrefsStorage;
+import seedu.flashnotes.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HeadlessApp headlessApp = new HeadlessApp();
+    private final ByteArrayOutputStream outputBytes = new ByteArrayOutputStream();
+    private final PrintStream output = new PrintStream(outputBytes, true, UTF_8);
+
+    @BeforeEach
+    public void setUp() {
+        headlessApp.storage = new StorageManager(new JsonFlashNotesStorage(temporaryFolder.resolve("flashnotes.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        headlessApp.model = new ModelManager();
+        headlessApp.logic = new LogicManager(headlessApp.model, headlessApp.storage);
+    }
+
+    @Test
+    public void runCommands_validCommands_executedUntilExit() throws Exception {
+        int failedCount = headlessApp.runCommands(input("addDeck n/Biology", "", "exit", "addDeck n/Physics"),
+                output, false);
+
+        assertEquals(0, failedCount);
+        assertEquals(String.format(AddDeckCommand.MESSAGE_SUCCESS, "Biology") + System.lineSeparator()
+                + ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), outputBytes.toString(UTF_8));
+        assertTrue(headlessApp.model.hasDeck(new Deck("Biology")));
+        assertFalse(headlessApp.model.hasDeck(new Deck("Physics")));
+    }
+
+    @Test
+    public void runCommands_invalidCommand_reportedAndCounted() throws Exception {
+        int failedCount = headlessApp.runCommands(input("unknownCommand", "addDeck n/Biology"), output, false);
+
+        assertEquals(1, failedCount);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator()
+                + String.format(AddDeckCommand.MESSAGE_SUCCESS, "Biology") + System.lineSeparator(),
+                outputBytes.toString(UTF_8));
+    }
+
+    @Test
+    public void runCommands_export_waitsForFile() throws Exception {
+        Path exportFile = temporaryFolder.resolve("export.csv");
+        int failedCount = headlessApp.runCommands(input("addDeck n/Biology", "export " + exportFile), output, false);
+
+        assertEquals(0, failedCount);
+        assertTrue(outputBytes.toString(UTF_8).contains(String.format("Exported 0 flashcard(s) to %s", exportFile)));
+        assertTrue(Files.exists(exportFile));
+    }
+
+    @Test
+    public void runCommands_interactive_printsPrompts() throws Exception {
+        headlessApp.runCommands(input("addDeck n/Biology"), output, true);
+        assertTrue(outputBytes.toString(UTF_8).startsWith(HeadlessApp.PROMPT));
+        assertTrue(outputBytes.toString(UTF_8).endsWith(HeadlessApp.PROMPT));
+    }
+
+    private static BufferedReader input(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
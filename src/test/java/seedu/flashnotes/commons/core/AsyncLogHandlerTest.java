@@ -0,0 +1,118 @@
+package seedu.flashnotes.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_records_writtenInOrderAndFlushed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(100, target);
+
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(50, target.records.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertTrue(target.flushCount > 0 && target.flushCount <= 51);
+        handler.close();
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_belowHandlerLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(10, target);
+        handler.setLevel(Level.INFO);
+
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.close();
+
+        assertEquals(List.of("info"), getMessages(target));
+    }
+
+    @Test
+    public void publish_queueFull_lowLevelRecordsDroppedAndReported() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, target);
+        target.block();
+        handler.publish(new LogRecord(Level.INFO, "taken by the writer"));
+        target.awaitBlocked();
+
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "queued 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        target.unblock();
+        handler.close();
+
+        List<String> messages = getMessages(target);
+        assertEquals(List.of("taken by the writer", "queued 1", "queued 2"), messages.subList(0, 3));
+        assertTrue(messages.get(messages.size() - 1).startsWith("1 log records were dropped"));
+    }
+
+    private static List<String> getMessages(RecordingHandler handler) {
+        return handler.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+
+    /**
+     * A handler that keeps the records it is given, and can be made to wait before taking the next one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+        private volatile int flushCount;
+        private volatile boolean isClosed;
+
+        void block() {
+            release = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.flashnotes.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = BatchedObservableList.observableArrayList();
+    private final List<String> mirror = new ArrayList<>();
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        mirror.addAll(list);
+        // Replays each change on the mirror, to check that the changes reported describe the list correctly
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void applyAsOneChange_manyChanges_notifiesListenersOnce() {
+        list.applyAsOneChange(() -> {
+            list.set(1, "B");
+            list.remove("d");
+            list.add(0, "z");
+            list.set(4, "E");
+        });
+
+        assertEquals(Arrays.asList("z", "a", "B", "c", "E"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeAll_separatedElements_notifiesListenersOnce() {
+        assertFalse(list.removeAll(Arrays.asList("x", "y")));
+        list.removeAll(Arrays.asList("a", "c", "d"));
+
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeRange_subListCleared_notifiesListenersOnce() {
+        list.subList(1, 4).clear();
+        list.setAll(Arrays.asList("x", "y"));
+
+        assertEquals(Arrays.asList("x", "y"), list);
+        assertEquals(list, mirror);
+        assertEquals(2, changeCount);
+    }
+}
@@ -11,7 +11,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Command metrics file Location : metrics.txt\n"
+                + "Command history file Location : history.txt\n"
+                + "Preload secondary windows : true";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,53 @@
+package seedu.flashnotes.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void getValueAtPercentile_noValues_zero() {
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (long value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(90));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(5.5, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinBucketPrecision() {
+        long[] values = {1_000, 25_000, 300_000, 4_000_000, 50_000_000, 600_000_000_000L};
+        for (long value : values) {
+            Histogram single = new Histogram();
+            single.record(value);
+            single.record(Long.MAX_VALUE / 2);
+            long reported = single.getValueAtPercentile(50);
+            assertTrue(reported >= value && reported <= value * 1.125, value + " reported as " + reported);
+        }
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(99));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+}
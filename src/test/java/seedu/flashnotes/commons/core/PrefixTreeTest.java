@@ -0,0 +1,63 @@
+package seedu.flashnotes.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTreeTest {
+
+    private PrefixTree prefixTree;
+
+    @BeforeEach
+    public void setUp() {
+        prefixTree = new PrefixTree();
+        Arrays.asList("addCard", "addDeck", "add", "help").forEach(prefixTree::add);
+    }
+
+    @Test
+    public void add_duplicateWord_returnsFalse() {
+        assertFalse(prefixTree.add("add"));
+        assertEquals(4, prefixTree.size());
+    }
+
+    @Test
+    public void remove_word_otherWordsWithPrefixKept() {
+        assertTrue(prefixTree.remove("add"));
+        assertFalse(prefixTree.contains("add"));
+        assertEquals(Arrays.asList("addCard", "addDeck"), prefixTree.getWordsStartingWith("ad"));
+
+        assertTrue(prefixTree.remove("addCard"));
+        assertEquals(Collections.singletonList("addDeck"), prefixTree.getWordsStartingWith("ad"));
+        assertFalse(prefixTree.remove("addCard"));
+        assertEquals(2, prefixTree.size());
+    }
+
+    @Test
+    public void getWordsStartingWith_prefix_sortedWords() {
+        assertEquals(Arrays.asList("add", "addCard", "addDeck"), prefixTree.getWordsStartingWith("a"));
+        assertEquals(Arrays.asList("add", "addCard", "addDeck", "help"), prefixTree.getWordsStartingWith(""));
+        assertEquals(Collections.emptyList(), prefixTree.getWordsStartingWith("x"));
+        assertEquals(3, prefixTree.countWordsStartingWith("add"));
+        assertEquals(0, prefixTree.countWordsStartingWith("addX"));
+    }
+
+    @Test
+    public void getLongestCommonPrefix_prefix_stopsAtWordOrBranch() {
+        assertEquals(Optional.of("add"), prefixTree.getLongestCommonPrefix("a"));
+        assertEquals(Optional.of("addCard"), prefixTree.getLongestCommonPrefix("addC"));
+        assertEquals(Optional.of("help"), prefixTree.getLongestCommonPrefix("h"));
+        assertEquals(Optional.empty(), prefixTree.getLongestCommonPrefix("x"));
+
+        prefixTree.remove("add");
+        assertEquals(Optional.of("add"), prefixTree.getLongestCommonPrefix("a"));
+        prefixTree.remove("addDeck");
+        assertEquals(Optional.of("addCard"), prefixTree.getLongestCommonPrefix("a"));
+    }
+}
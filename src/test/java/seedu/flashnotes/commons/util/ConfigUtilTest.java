@@ -53,6 +53,16 @@ public class ConfigUtilTest {
         assertEquals(new Config(), actual);
     }
 
+    @Test
+    public void read_preloadingWindowsOff_successfullyRead() throws DataConversionException {
+        Config expected = getTypicalConfig();
+        expected.setIsPreloadingWindows(false);
+
+        Config actual = read("NotPreloadingWindowsConfig.json").get();
+        assertFalse(actual.getIsPreloadingWindows());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void read_extraValuesInFile_extraValuesIgnored() throws DataConversionException {
         Config expected = getTypicalConfig();
@@ -0,0 +1,57 @@
+package seedu.flashnotes.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void getDelimiter() {
+        assertEquals(CsvUtil.TAB, CsvUtil.getDelimiter(Path.of("cards.TSV")));
+        assertEquals(CsvUtil.TAB, CsvUtil.getDelimiter(Path.of("anki/cards.txt")));
+        assertEquals(CsvUtil.COMMA, CsvUtil.getDelimiter(Path.of("cards.csv")));
+        assertEquals(CsvUtil.COMMA, CsvUtil.getDelimiter(Path.of("cards")));
+    }
+
+    @Test
+    public void readRecord_plainFields_split() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("a,b,c\n\nd\te"));
+        assertEquals(Arrays.asList("a", "b", "c"), CsvUtil.readRecord(reader, CsvUtil.COMMA));
+        assertEquals(Arrays.asList(""), CsvUtil.readRecord(reader, CsvUtil.COMMA));
+        assertEquals(Arrays.asList("d", "e"), CsvUtil.readRecord(reader, CsvUtil.TAB));
+        assertNull(CsvUtil.readRecord(reader, CsvUtil.COMMA));
+    }
+
+    @Test
+    public void readRecord_quotedFields_unquoted() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                "\"a,b\",\"say \"\"hi\"\"\",\"\"\r\n\"two\nlines\",x\"y\"\nlast"));
+        assertEquals(Arrays.asList("a,b", "say \"hi\"", ""), CsvUtil.readRecord(reader, CsvUtil.COMMA));
+        assertEquals(Arrays.asList("two\nlines", "x\"y\""), CsvUtil.readRecord(reader, CsvUtil.COMMA));
+        assertEquals(Arrays.asList("last"), CsvUtil.readRecord(reader, CsvUtil.COMMA));
+    }
+
+    @Test
+    public void formatRecord_specialCharacters_quoted() {
+        assertEquals("a,,\"b,c\",\"say \"\"hi\"\"\",\"two\nlines\"",
+                CsvUtil.formatRecord(Arrays.asList("a", "", "b,c", "say \"hi\"", "two\nlines"), CsvUtil.COMMA));
+        assertEquals("a,b\tc", CsvUtil.formatRecord(Arrays.asList("a,b", "c"), CsvUtil.TAB));
+    }
+
+    @Test
+    public void formatRecord_readRecord_roundTrip() throws Exception {
+        List<String> fields = Arrays.asList("", "\"quoted\"", "comma, and\ttab", "line\nbreak", "été ✓");
+        for (char delimiter : new char[] {CsvUtil.COMMA, CsvUtil.TAB}) {
+            String record = CsvUtil.formatRecord(fields, delimiter);
+            assertEquals(fields, CsvUtil.readRecord(new BufferedReader(new StringReader(record)), delimiter));
+        }
+    }
+}
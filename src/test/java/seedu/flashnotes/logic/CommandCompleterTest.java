@@ -0,0 +1,70 @@
+package seedu.flashnotes.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.flashnotes.commons.core.BatchedObservableList;
+import seedu.flashnotes.model.deck.Deck;
+
+public class CommandCompleterTest {
+
+    private final ObservableList<Deck> decks = FXCollections.observableArrayList(
+            new Deck("Biology"), new Deck("Biochemistry"), new Deck("Chemistry"));
+    private CommandCompleter commandCompleter;
+
+    @BeforeEach
+    public void setUp() {
+        commandCompleter = new CommandCompleter(Arrays.asList("addCard", "addDeck", "enterDeck", "editCard",
+                "export", "help"), decks);
+    }
+
+    @Test
+    public void complete_commandWord_completedAsFarAsMatchesAgree() {
+        assertEquals("add", commandCompleter.complete("a"));
+        assertEquals("addCard ", commandCompleter.complete("addC"));
+        assertEquals("help ", commandCompleter.complete("h"));
+        assertEquals("e", commandCompleter.complete("e"));
+        assertEquals("x", commandCompleter.complete("x"));
+    }
+
+    @Test
+    public void complete_deckName_completedAfterCommandOrPrefix() {
+        assertEquals("enterDeck Bio", commandCompleter.complete("enterDeck B"));
+        assertEquals("enterDeck Chemistry", commandCompleter.complete("enterDeck C"));
+        assertEquals("editCard 1 q/Q t/Biology", commandCompleter.complete("editCard 1 q/Q t/Biol"));
+        assertEquals("export a.csv n/Chemistry", commandCompleter.complete("export a.csv n/Ch"));
+        assertEquals("export a.csv", commandCompleter.complete("export a.csv"));
+        assertEquals("addCard q/B", commandCompleter.complete("addCard q/B"));
+    }
+
+    @Test
+    public void complete_decksChanged_deckNamesUpdated() {
+        decks.add(new Deck("Physics"));
+        decks.set(0, new Deck("Botany"));
+        decks.remove(1);
+
+        assertEquals("enterDeck Physics", commandCompleter.complete("enterDeck P"));
+        assertEquals("enterDeck Botany", commandCompleter.complete("enterDeck B"));
+    }
+
+    @Test
+    public void complete_deckAddedBeforeSameNameRemovedInOneChange_deckNameKept() {
+        BatchedObservableList<Deck> batchedDecks = BatchedObservableList.observableArrayList();
+        batchedDecks.addAll(new Deck("Biology"), new Deck("Chemistry"));
+        commandCompleter = new CommandCompleter(Arrays.asList("enterDeck"), batchedDecks);
+
+        // As when undoing a script that deleted a deck and added it back
+        batchedDecks.applyAsOneChange(() -> {
+            batchedDecks.add(0, new Deck("Chemistry"));
+            batchedDecks.remove(2);
+        });
+
+        assertEquals("enterDeck Chemistry", commandCompleter.complete("enterDeck C"));
+    }
+}
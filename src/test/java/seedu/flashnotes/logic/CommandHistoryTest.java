@@ -0,0 +1,74 @@
+package seedu.flashnotes.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHistoryTest {
+
+    private final CommandHistory commandHistory =
+            new CommandHistory(Arrays.asList("addCard q/a a/b", "help", "addDeck n/Biology", "help"));
+
+    @Test
+    public void add_blankOrRepeatedCommand_notAdded() {
+        commandHistory.add(" ");
+        commandHistory.add("help");
+        assertEquals(4, commandHistory.size());
+
+        commandHistory.add("listAll");
+        assertEquals(5, commandHistory.size());
+        assertEquals("listAll", commandHistory.get(4));
+    }
+
+    @Test
+    public void getIndicesStartingWith_prefix_indicesOldestFirst() {
+        assertEquals(Arrays.asList(0, 2), commandHistory.getIndicesStartingWith("add"));
+        assertEquals(Collections.singletonList(2), commandHistory.getIndicesStartingWith("addD"));
+        assertEquals(Arrays.asList(1, 3), commandHistory.getIndicesStartingWith("help"));
+        assertEquals(Arrays.asList(0, 1, 2, 3), commandHistory.getIndicesStartingWith(""));
+        assertEquals(Collections.emptyList(), commandHistory.getIndicesStartingWith("helpMe"));
+
+        commandHistory.add("addDeck n/Chemistry");
+        assertEquals(Arrays.asList(2, 4), commandHistory.getIndicesStartingWith("addDeck n/"));
+    }
+
+    @Test
+    public void getRecentCommands_moreThanCapacity_lastCommandsKept() {
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < CommandHistory.DEFAULT_CAPACITY + 10; i++) {
+            commands.add("enterDeck " + i);
+        }
+
+        CommandHistory longHistory = new CommandHistory(commands);
+        assertEquals(commands.subList(10, commands.size()), longHistory.getRecentCommands());
+
+        longHistory.add("help");
+        assertEquals(CommandHistory.DEFAULT_CAPACITY, longHistory.getRecentCommands().size());
+        assertEquals("enterDeck 11", longHistory.getRecentCommands().get(0));
+    }
+
+    @Test
+    public void add_moreThanCapacity_oldestCommandsDropped() {
+        CommandHistory longHistory = new CommandHistory();
+        for (int i = 0; i < CommandHistory.DEFAULT_CAPACITY * 3; i++) {
+            longHistory.add(i % 2 == 0 ? "help" : "enterDeck " + i);
+        }
+
+        assertEquals(CommandHistory.DEFAULT_CAPACITY, longHistory.size());
+        assertEquals("help", longHistory.get(0));
+        assertEquals("enterDeck " + (CommandHistory.DEFAULT_CAPACITY * 3 - 1),
+                longHistory.get(CommandHistory.DEFAULT_CAPACITY - 1));
+
+        List<Integer> helpIndices = longHistory.getIndicesStartingWith("help");
+        assertEquals(CommandHistory.DEFAULT_CAPACITY / 2, helpIndices.size());
+        assertEquals(0, (int) helpIndices.get(0));
+        assertEquals(CommandHistory.DEFAULT_CAPACITY - 2, (int) helpIndices.get(helpIndices.size() - 1));
+        assertEquals(Collections.singletonList(1),
+                longHistory.getIndicesStartingWith("enterDeck " + (CommandHistory.DEFAULT_CAPACITY * 2 + 1)));
+    }
+}
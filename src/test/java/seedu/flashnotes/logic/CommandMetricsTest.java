@@ -0,0 +1,43 @@
+package seedu.flashnotes.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void getSummary_noCommands_noCommandsMessage() {
+        assertTrue(commandMetrics.isEmpty());
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_recordedCommands_oneLinePerTypeInOrder() {
+        commandMetrics.record("FindCommand", 100_000, 2_000_000, 4096, 20);
+        commandMetrics.recordSave("FindCommand", 3_000_000);
+        commandMetrics.record("AddDeckCommand", 50_000, 1_000_000, -1, 10);
+        commandMetrics.recordSave("AddDeckCommand", 5_000_000);
+        commandMetrics.record("FindCommand", 100_000, 2_000_000, 4096, 20);
+        commandMetrics.recordSave("FindCommand", 3_000_000);
+
+        assertFalse(commandMetrics.isEmpty());
+        assertEquals(CommandMetrics.MESSAGE_HEADER
+                + "\nAddDeckCommand: 1 | 0.05/0.05/0.05, 1.00/1.00/1.00, 5.00/5.00/5.00 | n/a | 10"
+                + "\nFindCommand: 2 | 0.10/0.10/0.10, 2.00/2.00/2.00, 3.00/3.00/3.00 | 4.0 KB | 20",
+                commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getAllocatedBytesOfCurrentThread_allocation_increases() {
+        long before = CommandMetrics.getAllocatedBytesOfCurrentThread();
+        byte[][] allocated = new byte[64][1024];
+        long after = CommandMetrics.getAllocatedBytesOfCurrentThread();
+
+        assertTrue(before < 0 || after - before >= 64 * 1024, "allocated " + allocated.length + " KB");
+    }
+}
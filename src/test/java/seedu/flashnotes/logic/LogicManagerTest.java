@@ -1,13 +1,19 @@
 package seedu.flashnotes.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_DECK_DISPLAYED_INDEX;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_TAG_NATURE;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +21,13 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.flashnotes.logic.commands.AddDeckCommand;
 import seedu.flashnotes.logic.commands.CommandResult;
+import seedu.flashnotes.logic.commands.EnterDeckCommand;
+import seedu.flashnotes.logic.commands.HelpCommand;
+import seedu.flashnotes.logic.commands.ImportCommand;
 import seedu.flashnotes.logic.commands.ListAllCommand;
+import seedu.flashnotes.logic.commands.RedoCommand;
+import seedu.flashnotes.logic.commands.StatsCommand;
+import seedu.flashnotes.logic.commands.UndoCommand;
 import seedu.flashnotes.logic.commands.exceptions.CommandException;
 import seedu.flashnotes.logic.parser.exceptions.ParseException;
 import seedu.flashnotes.model.Model;
@@ -65,6 +77,64 @@ public class LogicManagerTest {
                 0), model);
     }
 
+    @Test
+    public void execute_undoRedo_changesRevertedAndApplied() throws Exception {
+        String addCommand = AddDeckCommand.COMMAND_WORD + " n/" + VALID_TAG_NATURE;
+        logic.execute(addCommand);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addDeck(new Deck(VALID_TAG_NATURE));
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, String.format(UndoCommand.MESSAGE_SUCCESS, addCommand),
+                new ModelManager());
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, String.format(RedoCommand.MESSAGE_SUCCESS, addCommand),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_validCommands_metricsRecorded() throws Exception {
+        assertThrows(CommandException.class, () -> logic.execute("deleteDeck 9"));
+        logic.execute(AddDeckCommand.COMMAND_WORD + " n/" + VALID_TAG_NATURE);
+        logic.execute(EnterDeckCommand.COMMAND_WORD + " " + VALID_TAG_NATURE);
+
+        String summary = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+
+        assertTrue(summary.startsWith(CommandMetrics.MESSAGE_HEADER));
+        assertTrue(summary.contains("\nAddDeckCommand: 1 | "));
+        assertTrue(summary.contains("\nEnterDeckCommand: 1 | "));
+        assertFalse(summary.contains("DeleteDeckCommand"));
+    }
+
+    @Test
+    public void execute_commands_addedToHistory() throws Exception {
+        logic.execute(ListAllCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("unknownCommand"));
+
+        CommandHistory commandHistory = logic.getCommandHistory();
+        assertEquals(2, commandHistory.size());
+        assertEquals(ListAllCommand.COMMAND_WORD, commandHistory.get(0));
+        assertEquals("unknownCommand", commandHistory.get(1));
+    }
+
+    @Test
+    public void completeCommand_partialDeckName_completed() throws Exception {
+        logic.execute(AddDeckCommand.COMMAND_WORD + " n/" + VALID_TAG_NATURE);
+        assertEquals(EnterDeckCommand.COMMAND_WORD + " " + VALID_TAG_NATURE,
+                logic.completeCommand(EnterDeckCommand.COMMAND_WORD + " " + VALID_TAG_NATURE.substring(0, 1)));
+    }
+
+    @Test
+    public void execute_savingInBackground_savedAfterCommandReturns() throws Exception {
+        JsonFlashNotesStorage flashNotesStorage =
+                new JsonFlashNotesStorage(temporaryFolder.resolve("backgroundFlashnotes.json"));
+        StorageManager storage = new StorageManager(flashNotesStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("backgroundUserPrefs.json")));
+        logic = new LogicManager(model, storage, new CommandHistory(), true);
+
+        logic.execute(AddDeckCommand.COMMAND_WORD + " n/" + VALID_TAG_NATURE);
+        logic.getLastSave().join();
+        assertTrue(flashNotesStorage.readFlashNotes().get().getDeckList().contains(new Deck(VALID_TAG_NATURE)));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonFlashNotesIoExceptionThrowingStub
@@ -84,6 +154,49 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_backgroundCommand_changeMadeOnCommandThread() throws Exception {
+        BlockingQueue<Runnable> commandThreadTasks = new LinkedBlockingQueue<>();
+        JsonFlashNotesStorage flashNotesStorage =
+                new JsonFlashNotesStorage(temporaryFolder.resolve("flashnotes.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashNotesStorage, userPrefsStorage), new CommandHistory(),
+                false, commandThreadTasks::add);
+        Path file = temporaryFolder.resolve("cards.csv");
+        Files.write(file, List.of("What is a cell?,The smallest unit of life,Biology"));
+
+        CommandResult result = logic.execute(ImportCommand.COMMAND_WORD + " " + file);
+        assertEquals(String.format(ImportCommand.MESSAGE_STARTED, file), result.getFeedbackToUser());
+        assertTrue(result.getBackgroundTask().isPresent());
+        assertThrows(CommandException.class, LogicManager.MESSAGE_COMMAND_RUNNING, () ->
+                logic.execute(ListAllCommand.COMMAND_WORD));
+        assertEquals(1, logic.getCommandHistory().size());
+
+        // The file is read on a background thread, which then hands the change to the command thread
+        commandThreadTasks.take().run();
+        assertTrue(logic.getPendingCommand().get().startsWith("Imported 1 flashcard(s) and 1 new deck(s)"));
+        assertTrue(model.hasDeck(new Deck("Biology")));
+        assertTrue(flashNotesStorage.readFlashNotes().isPresent());
+        logic.execute(ListAllCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_dataUnchanged_notSavedAgain() throws Exception {
+        JsonFlashNotesSaveCountingStub flashNotesStorage =
+                new JsonFlashNotesSaveCountingStub(temporaryFolder.resolve("flashnotes.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(flashNotesStorage, userPrefsStorage));
+
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, flashNotesStorage.saveCount);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(1, flashNotesStorage.saveCount);
+        logic.execute(AddDeckCommand.COMMAND_WORD + " n/" + VALID_TAG_NATURE);
+        assertEquals(2, flashNotesStorage.saveCount);
+        logic.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(2, flashNotesStorage.saveCount);
+    }
+
     @Test
     public void getFilteredFlashcardList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredFlashcardList().remove(0));
@@ -161,4 +274,22 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class JsonFlashNotesSaveCountingStub extends JsonFlashNotesStorage {
+        private int saveCount;
+
+        private JsonFlashNotesSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFlashNotes(ReadOnlyFlashNotes flashNotes, Path filePath, UniqueDeckList deckList)
+                throws IOException {
+            saveCount++;
+            super.saveFlashNotes(flashNotes, filePath, deckList);
+        }
+    }
 }
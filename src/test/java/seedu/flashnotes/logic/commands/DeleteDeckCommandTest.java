@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -88,11 +90,51 @@ public class DeleteDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setFlashNotes(ReadOnlyFlashNotes flashNotes) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void syncFlashNotes(ReadOnlyFlashNotes flashNotes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitFlashNotes(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyFlashNotes getFlashNotes() {
             throw new AssertionError("This method should not be called.");
@@ -212,6 +254,16 @@ public class DeleteDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Flashcard findFlashcard(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Flashcard> getFilteredFlashcardList() {
             throw new AssertionError("This method should not be called.");
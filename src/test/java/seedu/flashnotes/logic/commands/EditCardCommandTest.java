@@ -1,5 +1,6 @@
 package seedu.flashnotes.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.logic.commands.CommandTestUtil.DESC_MACROECONS;
@@ -56,6 +57,21 @@ public class EditCardCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_flashcardEdited_keepsId() throws Exception {
+        Flashcard flashcardToEdit = model.getFilteredFlashcardList().get(INDEX_FIRST_FLASHCARD.getZeroBased());
+        EditCardCommand.EditFlashcardDescriptor descriptor = new EditFlashcardDescriptorBuilder()
+                .withQuestion(VALID_QUESTION_MACROECONS).build();
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName(FlashcardBuilder.DEFAULT_TAG);
+
+        new EditCardCommand(INDEX_FIRST_FLASHCARD, descriptor).execute(model);
+
+        Flashcard editedFlashcard = model.findFlashcard(flashcardToEdit.getId());
+        assertEquals(VALID_QUESTION_MACROECONS, editedFlashcard.getQuestion().question);
+        assertEquals(flashcardToEdit.getAnswer(), editedFlashcard.getAnswer());
+    }
+
     @Test
     public void execute_someFieldsSpecifiedUnfilteredList_success() {
         Index indexLastFlashcard = Index.fromOneBased(model.getFilteredFlashcardList().size());
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.flashnotes.commons.core.GuiSettings;
 import seedu.flashnotes.commons.core.index.Index;
+import seedu.flashnotes.model.FlashNotes;
 import seedu.flashnotes.model.Model;
 import seedu.flashnotes.model.ReadOnlyFlashNotes;
 import seedu.flashnotes.model.ReadOnlyUserPrefs;
@@ -38,10 +41,10 @@ public class EditDeckNameCommandTest {
     public void execute_editDeck_editSuccessful() throws Exception {
         Deck deck = new Deck(NAME);
         Flashcard flashcard = new Flashcard(new Question(QUESTION),
-                new Answer(ANSWER), new Tag(NAME));
+                new Answer(ANSWER), Tag.of(NAME));
         Deck expectedDeck = new Deck(NEW_NAME);
         Flashcard expectedFlashcard = new Flashcard(new Question(QUESTION),
-                new Answer(ANSWER), new Tag(NEW_NAME));
+                new Answer(ANSWER), Tag.of(NEW_NAME));
         ModelStubWithFlashcardAndDeck modelStub = new ModelStubWithFlashcardAndDeck(deck, flashcard);
         ModelStubWithFlashcardAndDeck expectedModelStub =
                 new ModelStubWithFlashcardAndDeck(expectedDeck, expectedFlashcard);
@@ -96,11 +99,51 @@ public class EditDeckNameCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addFlashcards(Collection<Flashcard> flashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setFlashNotes(ReadOnlyFlashNotes flashNotes) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void syncFlashNotes(ReadOnlyFlashNotes flashNotes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitFlashNotes(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redoFlashNotes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyFlashNotes getFlashNotes() {
             throw new AssertionError("This method should not be called.");
@@ -220,6 +263,16 @@ public class EditDeckNameCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Flashcard findFlashcard(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Flashcard> getFilteredFlashcardList() {
             throw new AssertionError("This method should not be called.");
@@ -282,6 +335,13 @@ public class EditDeckNameCommandTest {
             return decks;
         }
 
+        @Override
+        public ReadOnlyFlashNotes getFlashNotes() {
+            FlashNotes flashNotes = new FlashNotes();
+            flashNotes.setFlashcards(flashcards);
+            return flashNotes;
+        }
+
         @Override
         public boolean hasDeck(Deck deck) {
             return decks.contains(deck);
@@ -304,9 +364,9 @@ public class EditDeckNameCommandTest {
         }
 
         @Override
-        public void setFlashcard(Flashcard original, Flashcard newCard) {
-            newFlashcards.add(newCard);
-            flashcards.remove(original);
+        public void setFlashcards(Map<Flashcard, Flashcard> editedFlashcards) {
+            newFlashcards.addAll(editedFlashcards.values());
+            flashcards.removeAll(editedFlashcards.keySet());
         }
     }
 }
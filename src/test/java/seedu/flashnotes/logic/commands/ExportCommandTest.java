@@ -0,0 +1,130 @@
+package seedu.flashnotes.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.tag.TagContainsKeywordsPredicate;
+import seedu.flashnotes.model.util.SyntheticDataGenerator;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+
+    @Test
+    public void execute_mainMode_allFlashcardsExportedToCsv() throws Exception {
+        Path file = temporaryFolder.resolve("all.csv");
+
+        CommandResult result = new ExportCommand(file).execute(model);
+        String message = awaitBackgroundTask(result);
+
+        int size = model.getFlashNotes().getFlashcardList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, size, file), result.getFeedbackToUser());
+        assertTrue(message.startsWith(String.format("Exported %d flashcard(s) to %s", size, file)));
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        assertEquals(ExportCommand.CSV_HEADER, lines.get(0));
+        assertEquals(size + 1, lines.size());
+        assertEquals(1, result.getBackgroundTask().get().getProgress());
+    }
+
+    @Test
+    public void execute_deck_onlyDeckExportedForAnki() throws Exception {
+        Path file = temporaryFolder.resolve("math.txt");
+
+        awaitBackgroundTask(new ExportCommand(file, "Math").execute(model));
+
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        assertEquals(ExportCommand.ANKI_HEADER, lines.subList(0, ExportCommand.ANKI_HEADER.size()));
+        long mathCount = model.getFlashNotes().getFlashcardList().stream()
+                .filter(flashcard -> flashcard.getTag().tagName.equals("Math")).count();
+        assertEquals(ExportCommand.ANKI_HEADER.size() + mathCount, lines.size());
+        assertTrue(lines.stream().skip(ExportCommand.ANKI_HEADER.size()).allMatch(line -> line.endsWith("\tMath")));
+    }
+
+    @Test
+    public void execute_inDeck_listedFlashcardsExported() throws Exception {
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName("friends");
+        model.updateFilteredFlashcardList(new TagContainsKeywordsPredicate("friends"));
+        Path file = temporaryFolder.resolve("friends.csv");
+
+        awaitBackgroundTask(new ExportCommand(file).execute(model));
+
+        assertEquals(model.getFilteredFlashcardList().size() + 1, Files.readAllLines(file, UTF_8).size());
+    }
+
+    @Test
+    public void execute_exportThenImport_sameFlashcards() throws Exception {
+        Model generatedModel = new ModelManager(new SyntheticDataGenerator().withCardCount(2000).withDeckCount(5)
+                .withUnicode(true).generate(), new UserPrefs());
+        for (String fileName : new String[] {"library.csv", "library.txt"}) {
+            Path file = temporaryFolder.resolve(fileName);
+            awaitBackgroundTask(new ExportCommand(file).execute(generatedModel));
+
+            Model importedModel = new ModelManager();
+            new ImportCommand(file).execute(importedModel);
+
+            assertEquals(new HashSet<Flashcard>(generatedModel.getFlashNotes().getFlashcardList()),
+                    new HashSet<Flashcard>(importedModel.getFlashNotes().getFlashcardList()));
+        }
+    }
+
+    @Test
+    public void execute_unknownDeck_throwsCommandException() {
+        Path file = temporaryFolder.resolve("none.csv");
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_DECK_NOT_FOUND, "Biology"), () ->
+                new ExportCommand(file, "Biology").execute(model));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_unwritableFile_taskFails() throws Exception {
+        Path notADirectory = Files.createFile(temporaryFolder.resolve("file"));
+        Path file = notADirectory.resolve("all.csv");
+
+        CommandResult result = new ExportCommand(file).execute(model);
+
+        try {
+            awaitBackgroundTask(result);
+            throw new AssertionError("Expected the export to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandException);
+            assertTrue(e.getCause().getMessage().startsWith(
+                    String.format("Could not export flashcards to %s", file)));
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand command = new ExportCommand(Path.of("a.csv"), "Math");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ExportCommand(Path.of("a.csv"), "Math")));
+        assertFalse(command.equals(new ExportCommand(Path.of("a.csv"))));
+        assertFalse(command.equals(new ExportCommand(Path.of("b.csv"), "Math")));
+        assertFalse(command.equals(null));
+    }
+
+    private static String awaitBackgroundTask(CommandResult result) throws Exception {
+        return result.getBackgroundTask().get().getResult().get();
+    }
+}
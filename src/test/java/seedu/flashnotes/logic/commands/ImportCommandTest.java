@@ -0,0 +1,143 @@
+package seedu.flashnotes.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.flashnotes.commons.util.CsvUtil;
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.tag.Tag;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+
+    @Test
+    public void execute_validCsv_allRowsImported() throws Exception {
+        Path file = writeFile("cards.csv", "Question,Answer,Deck", "What is a cell?,The smallest unit of life,Biology",
+                "\"What is 1,000 + 1?\",\"1,001\",Math", "Who,me,friends", "What is DNA?,\"A \"\"double\"\" helix\"");
+        int expectedSize = model.getFlashNotes().getFlashcardList().size() + 3;
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(
+                "Imported 3 flashcard(s) and 2 new deck(s) from %s (4 row(s) in ", file)));
+        assertEquals(expectedSize, model.getFlashNotes().getFlashcardList().size());
+        assertTrue(model.hasDeck(new Deck("Biology")));
+        assertTrue(model.hasDeck(new Deck(Model.getDefaultDeckName())));
+        assertTrue(model.hasFlashcard(new Flashcard(new Question("What is 1,000 + 1?"), new Answer("1,001"),
+                Tag.of("Math"))));
+        assertTrue(model.hasFlashcard(new Flashcard(new Question("What is DNA?"), new Answer("A \"double\" helix"),
+                Tag.of(Model.getDefaultDeckName()))));
+    }
+
+    @Test
+    public void execute_tsvInDeck_rowsWithoutDeckAddedToCurrentDeck() throws Exception {
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName("Math");
+        Path file = writeFile("cards.tsv", "What is 2 + 2?\t4", "What is 3 + 3?\t6\tPlace");
+
+        new ImportCommand(file).execute(model);
+
+        assertTrue(model.hasFlashcard(new Flashcard(new Question("What is 2 + 2?"), new Answer("4"),
+                Tag.of("Math"))));
+        assertTrue(model.hasFlashcard(new Flashcard(new Question("What is 3 + 3?"), new Answer("6"),
+                Tag.of("Place"))));
+    }
+
+    @Test
+    public void execute_invalidRows_rejectedAndReported() throws Exception {
+        Path file = writeFile("cards.csv", "Only a question", ",blank question", "Q,A,list",
+                "Q,A,A deck name that is much too long to be a valid deck", "Q,A", "Q,A", "Who,me,friends");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith("Imported 1 flashcard(s)"));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 6)));
+        assertTrue(feedback.contains("\nLine 1: " + String.format(ImportCommand.MESSAGE_WRONG_COLUMN_COUNT, 1)));
+        assertTrue(feedback.contains("\nLine 2: " + String.format(Question.MESSAGE_CONSTRAINTS, 0)));
+        assertTrue(feedback.contains("\nLine 3: " + Deck.MESSAGE_CONSTRAINTS_RESERVED));
+        assertTrue(feedback.contains("\nLine 4: " + String.format(Deck.MESSAGE_CONSTRAINTS_LENGTH, 52)));
+        assertTrue(feedback.contains("\nLine 6: " + ImportCommand.MESSAGE_DUPLICATE_FLASHCARD));
+        assertTrue(feedback.contains("\nLine 7: " + ImportCommand.MESSAGE_DUPLICATE_FLASHCARD));
+    }
+
+    @Test
+    public void execute_manyRejectedRows_listTruncated() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.MAX_REJECTED_ROWS_SHOWN + 5; i++) {
+            lines.add("Who,me,friends");
+        }
+        Path file = writeFile("cards.csv", lines.toArray(new String[0]));
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(ImportCommand.MESSAGE_MORE_REJECTED_ROWS, 5)));
+    }
+
+    @Test
+    public void execute_manyRows_flashcardListChangedOnce() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add(CsvUtil.formatRecord(Arrays.asList("Question " + i, "Answer " + i, "Deck " + (i % 7)),
+                    CsvUtil.COMMA));
+        }
+        Path file = writeFile("cards.csv", lines.toArray(new String[0]));
+        int[] changeCount = {0};
+        model.getFlashNotes().getFlashcardList().addListener((ListChangeListener<Flashcard>) change ->
+                changeCount[0]++);
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported 1000 flashcard(s) and 7 new deck(s)"));
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void execute_missingFile_noChanges() {
+        FlashNotes expectedFlashNotes = new FlashNotes(model.getFlashNotes());
+        Path file = temporaryFolder.resolve("missing.csv");
+
+        assertThrows(CommandException.class, () -> new ImportCommand(file).execute(model));
+        assertEquals(expectedFlashNotes, model.getFlashNotes());
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand(Path.of("a.csv"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ImportCommand(Path.of("a.csv"))));
+        assertFalse(command.equals(new ImportCommand(Path.of("b.csv"))));
+        assertFalse(command.equals(null));
+    }
+
+    private Path writeFile(String fileName, String... lines) throws Exception {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.flashnotes.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.flashnotes.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.flashnotes.testutil.TypicalFlashcards.SKY;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_undoneStep_redone() throws Exception {
+        model.addFlashcard(SKY);
+        model.commitFlashNotes("addCard q/Sky");
+        Model expectedModel = new ModelManager(model.getFlashNotes(), new UserPrefs());
+        new UndoCommand().execute(model);
+
+        assertCommandSuccess(new RedoCommand(), model, String.format(RedoCommand.MESSAGE_SUCCESS, "addCard q/Sky"),
+                expectedModel);
+        assertFalse(model.canRedoFlashNotes());
+    }
+
+    @Test
+    public void execute_newStepAfterUndo_nothingToRedo() throws Exception {
+        model.addFlashcard(SKY);
+        model.commitFlashNotes("addCard q/Sky");
+        new UndoCommand().execute(model);
+        model.deleteFlashcard(model.getFlashNotes().getFlashcardList().get(0));
+        model.commitFlashNotes("deleteCard 1");
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+        assertTrue(redoCommand.equals(redoCommand));
+        assertTrue(redoCommand.equals(new RedoCommand()));
+        assertFalse(redoCommand.equals(null));
+        assertFalse(redoCommand.equals(new UndoCommand()));
+    }
+}
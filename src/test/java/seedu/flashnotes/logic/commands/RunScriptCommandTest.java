@@ -0,0 +1,134 @@
+package seedu.flashnotes.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashnotes.logic.commands.exceptions.CommandException;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.tag.Tag;
+
+public class RunScriptCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsApplied() throws Exception {
+        Path script = writeScript("# adds a deck with two cards", "addDeck n/Biology", "", "enterDeck Biology",
+                "addCard q/What is a cell? a/The smallest unit of life", "addCard q/What is DNA? a/A molecule",
+                "home", "setReviewLimit 5");
+
+        CommandResult result = new RunScriptCommand(script).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format("Ran %d command(s) from %s", 6, script)));
+        assertTrue(result.getFeedbackToUser().contains("\naddCard: 2 in "));
+        assertTrue(model.hasDeck(new Deck("Biology")));
+        assertTrue(model.hasFlashcard(new Flashcard(new Question("What is DNA?"), new Answer("A molecule"),
+                Tag.of("Biology"))));
+        assertEquals(5, model.getReviewCardLimit());
+        assertFalse(model.getIsInDeck());
+    }
+
+    @Test
+    public void execute_modeChangedByScript_startingModeRestored() throws Exception {
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName("Math");
+        Path script = writeScript("home", "addDeck n/Biology", "enterDeck Biology");
+
+        new RunScriptCommand(script).execute(model);
+
+        assertTrue(model.getIsInDeck());
+        assertEquals("Math", model.getCurrentDeckName());
+        assertTrue(model.getFilteredFlashcardList().stream()
+                .allMatch(flashcard -> flashcard.getTag().equals(Tag.of("Math"))));
+    }
+
+    @Test
+    public void execute_failingLine_rolledBack() throws Exception {
+        FlashNotes expectedFlashNotes = new FlashNotes(model.getFlashNotes());
+        String expectedStatistics = model.getFlashNotes().getDeckList().get(0).getResultStatistics();
+        Path script = writeScript("addDeck n/Biology", "setReviewLimit 5", "deleteDeck 1", "addCard q/Q a/A");
+
+        assertThrows(CommandException.class, () -> new RunScriptCommand(script).execute(model));
+
+        assertEquals(expectedFlashNotes, model.getFlashNotes());
+        assertEquals(expectedStatistics, model.getFlashNotes().getDeckList().get(0).getResultStatistics());
+        assertFalse(model.hasDeck(new Deck("Biology")));
+        assertEquals(new UserPrefs().getReviewCardLimit(), model.getReviewCardLimit());
+    }
+
+    @Test
+    public void execute_failingLine_reportsLineNumber() throws Exception {
+        Path script = writeScript("addDeck n/Biology", "# comment", "unknownCommand");
+        CommandException exception = assertThrowsCommandException(new RunScriptCommand(script));
+        assertTrue(exception.getMessage().startsWith("Script stopped at line 3 (unknownCommand)"));
+    }
+
+    @Test
+    public void execute_export_rejected() throws Exception {
+        Path exportFile = temporaryFolder.resolve("export.csv");
+        Path script = writeScript("addDeck n/Biology", ExportCommand.COMMAND_WORD + " " + exportFile);
+        CommandException exception = assertThrowsCommandException(new RunScriptCommand(script));
+        assertTrue(exception.getMessage().endsWith(RunScriptCommand.MESSAGE_UNAVAILABLE_IN_SCRIPT));
+        assertFalse(model.hasDeck(new Deck("Biology")));
+        assertFalse(Files.exists(exportFile));
+    }
+
+    @Test
+    public void execute_nestedScript_rejected() throws Exception {
+        Path script = writeScript("addDeck n/Biology", RunScriptCommand.COMMAND_WORD + " other.txt");
+        CommandException exception = assertThrowsCommandException(new RunScriptCommand(script));
+        assertTrue(exception.getMessage().endsWith(RunScriptCommand.MESSAGE_UNAVAILABLE_IN_SCRIPT));
+        assertFalse(model.hasDeck(new Deck("Biology")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = temporaryFolder.resolve("missing.txt");
+        CommandException exception = assertThrowsCommandException(new RunScriptCommand(script));
+        assertTrue(exception.getMessage().startsWith("Could not read script file"));
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand command = new RunScriptCommand(Path.of("a.txt"));
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RunScriptCommand(Path.of("a.txt"))));
+        assertFalse(command.equals(new RunScriptCommand(Path.of("b.txt"))));
+        assertFalse(command.equals(null));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+
+    private CommandException assertThrowsCommandException(RunScriptCommand command) {
+        try {
+            command.execute(model);
+        } catch (CommandException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a CommandException");
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.flashnotes.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.logic.CommandMetrics;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void execute_noCommands_noCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_recordedCommands_summaryShown() {
+        commandMetrics.record("AddDeckCommand", 1000, 2000, 4000, 0);
+        commandMetrics.recordSave("AddDeckCommand", 3000);
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, commandMetrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.flashnotes.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.flashnotes.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.Model;
+import seedu.flashnotes.model.ModelManager;
+import seedu.flashnotes.model.UserPrefs;
+import seedu.flashnotes.model.deck.Deck;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalFlashNotes(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_committedSteps_undoneInReverseOrder() {
+        model.deleteDeck(new Deck("Math"));
+        model.commitFlashNotes("deleteDeck Math");
+        Model afterDeleteModel = new ModelManager(model.getFlashNotes(), new UserPrefs());
+        model.setFlashNotes(new FlashNotes());
+        model.commitFlashNotes("clear");
+
+        assertCommandSuccess(new UndoCommand(), model, String.format(UndoCommand.MESSAGE_SUCCESS, "clear"),
+                afterDeleteModel);
+        assertCommandSuccess(new UndoCommand(), model, String.format(UndoCommand.MESSAGE_SUCCESS,
+                "deleteDeck Math"), expectedModel);
+        assertFalse(model.canUndoFlashNotes());
+        assertTrue(model.canRedoFlashNotes());
+    }
+
+    @Test
+    public void execute_uncommittedChangesRolledBack_notUndone() {
+        model.addDeck(new Deck("Biology"));
+        model.rollBackFlashNotes();
+
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+        assertFalse(model.hasDeck(new Deck("Biology")));
+    }
+
+    @Test
+    public void execute_currentDeckRemoved_returnsToDeckList() throws Exception {
+        model.addDeck(new Deck("Biology"));
+        model.commitFlashNotes("addDeck n/Biology");
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName("Biology");
+
+        CommandResult result = new UndoCommand().execute(model);
+
+        assertTrue(result.isHome());
+        assertFalse(model.getIsInDeck());
+        assertFalse(model.hasDeck(new Deck("Biology")));
+    }
+
+    @Test
+    public void execute_currentDeckKept_staysInDeck() throws Exception {
+        model.addDeck(new Deck("Biology"));
+        model.commitFlashNotes("addDeck n/Biology");
+        model.setIsInDeckTrue();
+        model.setCurrentDeckName("Math");
+
+        CommandResult result = new UndoCommand().execute(model);
+
+        assertFalse(result.isHome());
+        assertTrue(model.getIsInDeck());
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+        assertTrue(undoCommand.equals(undoCommand));
+        assertTrue(undoCommand.equals(new UndoCommand()));
+        assertFalse(undoCommand.equals(null));
+        assertFalse(undoCommand.equals(new RedoCommand()));
+    }
+}
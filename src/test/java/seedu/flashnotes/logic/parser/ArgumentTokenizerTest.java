@@ -5,6 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +144,89 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsWithAnother_longestPrefixUsed() {
+        Prefix t = new Prefix("t/");
+        Prefix tt = new Prefix("t/t/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble t/t/ long t/ short", t, tt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, tt, "long");
+        assertArgumentPresent(argMultimap, t, "short");
+    }
+
+    @Test
+    public void tokenize_longValues_linearInLength() {
+        String longValue = "word ".repeat(20000).trim();
+        String argsString = " q/" + longValue + " a/" + longValue + " t/" + longValue;
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT,
+                new Prefix("q/"), new Prefix("a/"), new Prefix("t/"));
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, new Prefix("q/"), longValue);
+        assertArgumentPresent(argMultimap, new Prefix("a/"), longValue);
+        assertArgumentPresent(argMultimap, new Prefix("t/"), longValue);
+    }
+
+    /**
+     * Tokenizes random strings built from prefixes, spaces and other characters, and checks that the
+     * result is the same as that of the tokenizer that searched for each prefix separately.
+     */
+    @Test
+    public void tokenize_randomArgsStrings_sameAsSearchingEachPrefix() {
+        Prefix[] allPrefixes = {pSlash, dashT, hatQ, new Prefix("q/"), new Prefix("ta/"), new Prefix("//")};
+        String[] pieces = {" ", "  ", "\t", "p/", "-t", "^Q", "q/", "t", "a/", "/", "x", "word"};
+        Random random = new Random(2103);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int pieceCount = random.nextInt(20);
+            for (int j = 0; j < pieceCount; j++) {
+                argsString.append(pieces[random.nextInt(pieces.length)]);
+            }
+            Prefix[] prefixes = Arrays.stream(allPrefixes)
+                    .filter(prefix -> random.nextBoolean())
+                    .toArray(Prefix[]::new);
+
+            ArgumentMultimap expected = SearchingTokenizer.tokenize(argsString.toString(), prefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+            String message = "Tokenizing \"" + argsString + "\" with " + Arrays.toString(prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), message);
+            for (Prefix prefix : allPrefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), message);
+                assertEquals(expected.getCountValue(prefix), actual.getCountValue(prefix), message);
+            }
+        }
+    }
+
+    /**
+     * The earlier tokenizer, which searched the arguments string for each prefix in turn and then sorted the
+     * positions it found. Used to check that {@code ArgumentTokenizer} gives the same results.
+     */
+    private static class SearchingTokenizer {
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<Integer> positions = new ArrayList<>();
+            Map<Integer, Prefix> prefixesByPosition = new HashMap<>();
+            for (Prefix prefix : prefixes) {
+                int position = argsString.indexOf(" " + prefix.getPrefix());
+                while (position != -1) {
+                    positions.add(position + 1);
+                    prefixesByPosition.put(position + 1, prefix);
+                    position = argsString.indexOf(" " + prefix.getPrefix(), position + 1);
+                }
+            }
+            Collections.sort(positions);
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int valueStart = 0;
+            for (int position : positions) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStart, position).trim());
+                currentPrefix = prefixesByPosition.get(position);
+                valueStart = position + currentPrefix.getPrefix().length();
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
+            return argMultimap;
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,65 @@
+package seedu.flashnotes.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.CARD;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.MAIN;
+import static seedu.flashnotes.logic.parser.CommandRegistry.Mode.REVIEW;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.logic.commands.HelpCommand;
+import seedu.flashnotes.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private static final String UNAVAILABLE_MESSAGE = "Not in review mode";
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register(HelpCommand.COMMAND_WORD)
+                .in((arguments, deckName) -> new HelpCommand(), MAIN)
+                .unavailableIn(UNAVAILABLE_MESSAGE, REVIEW);
+    }
+
+    @Test
+    public void parse_availableInMode_returnsCommand() throws Exception {
+        assertTrue(registry.parse(HelpCommand.COMMAND_WORD, "", MAIN, null) instanceof HelpCommand);
+    }
+
+    @Test
+    public void parse_unavailableInMode_throwsParseException() {
+        assertThrows(ParseException.class, UNAVAILABLE_MESSAGE, () ->
+                registry.parse(HelpCommand.COMMAND_WORD, "", REVIEW, null));
+    }
+
+    @Test
+    public void parse_modeNotRegistered_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                registry.parse(HelpCommand.COMMAND_WORD, "", CARD, null));
+    }
+
+    @Test
+    public void parse_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                registry.parse("unknownCommand", "", MAIN, null));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register(HelpCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void getCommandWords_returnsRegisteredWords() {
+        assertEquals(Collections.singleton(HelpCommand.COMMAND_WORD), registry.getCommandWords());
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.flashnotes.logic.parser;
+
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashnotes.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.flashnotes.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.logic.commands.ExportCommand;
+import seedu.flashnotes.model.deck.Deck;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " data/all.csv ", new ExportCommand(Paths.get("data/all.csv")));
+        assertParseSuccess(parser, " data/math.txt n/ Math ", new ExportCommand(Paths.get("data/math.txt"), "Math"));
+    }
+
+    @Test
+    public void parse_missingPath_throwsParseException() {
+        assertParseFailure(parser, " n/Math", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDeckName_throwsParseException() {
+        assertParseFailure(parser, " data/list.csv n/list", Deck.MESSAGE_CONSTRAINTS_RESERVED
+                + "\nNote that the cards' tag correspond to the deck they belong to.");
+    }
+}
@@ -37,11 +37,13 @@ import static seedu.flashnotes.commons.core.Messages.INVALID_WRONG_COMMAND_IN_HO
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_ALREADY_IN_REVIEW_MODE;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_EXTENDED_COMMAND_ERROR;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNAVAILABLE_IN_REVIEW_MODE;
 import static seedu.flashnotes.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.FlashcardBuilder.DEFAULT_TAG;
 import static seedu.flashnotes.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,13 +63,19 @@ import seedu.flashnotes.logic.commands.EditDeckNameCommand;
 import seedu.flashnotes.logic.commands.EndReviewCommand;
 import seedu.flashnotes.logic.commands.EnterDeckCommand;
 import seedu.flashnotes.logic.commands.ExitCommand;
+import seedu.flashnotes.logic.commands.ExportCommand;
 import seedu.flashnotes.logic.commands.FindCommand;
 import seedu.flashnotes.logic.commands.FlipCommand;
 import seedu.flashnotes.logic.commands.HelpCommand;
 import seedu.flashnotes.logic.commands.HomeCommand;
+import seedu.flashnotes.logic.commands.ImportCommand;
 import seedu.flashnotes.logic.commands.ListAllCommand;
+import seedu.flashnotes.logic.commands.RedoCommand;
 import seedu.flashnotes.logic.commands.ReviewCommand;
+import seedu.flashnotes.logic.commands.RunScriptCommand;
 import seedu.flashnotes.logic.commands.SetReviewLimitCommand;
+import seedu.flashnotes.logic.commands.StatsCommand;
+import seedu.flashnotes.logic.commands.UndoCommand;
 import seedu.flashnotes.logic.commands.WrongCommand;
 import seedu.flashnotes.logic.parser.exceptions.ParseException;
 import seedu.flashnotes.model.deck.Deck;
@@ -131,6 +139,44 @@ public class FlashNotesParserTest {
                 instanceof HelpCommand);
     }
 
+    @Test
+    public void homeScreen_runScript_success() throws Exception {
+        assertEquals(new RunScriptCommand(Paths.get("script.txt")), parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " script.txt", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
+    @Test
+    public void homeScreen_import_success() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("cards.csv")), parser.parseCommand(
+                ImportCommand.COMMAND_WORD + " cards.csv", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
+    @Test
+    public void homeScreen_export_success() throws Exception {
+        assertEquals(new ExportCommand(Paths.get("cards.csv"), "Math"), parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " cards.csv n/Math", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
+    @Test
+    public void homeScreen_stats_success() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD, isNotReviewMode, isNotInDeck, DEFAULT)
+                instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD, isNotReviewMode, isInDeck, DEFAULT)
+                instanceof StatsCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(
+                StatsCommand.COMMAND_WORD + " all", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
+    @Test
+    public void homeScreen_undoRedo_success() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD, isNotReviewMode, isNotInDeck, DEFAULT)
+                instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD, isNotReviewMode, isInDeck, DEFAULT)
+                instanceof RedoCommand);
+        assertThrows(ParseException.class, () -> parser.parseCommand(
+                UndoCommand.COMMAND_WORD + " 2", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
     @Test
     public void homeScreen_list_success() throws Exception {
         assertTrue(parser.parseCommand(ListAllCommand.COMMAND_WORD, isNotReviewMode, isNotInDeck, DEFAULT)
@@ -254,6 +300,21 @@ public class FlashNotesParserTest {
             -> parser.parseCommand("unknownCommand", isNotReviewMode, isNotInDeck, DEFAULT));
     }
 
+    @Test
+    public void homeScreen_commandWordFollowedByTab_success() throws Exception {
+        Index index = Index.fromOneBased(1);
+        assertEquals(new DeleteDeckCommand(index), parser.parseCommand(
+                "  " + DeleteDeckCommand.COMMAND_WORD + "\t1  ", isNotReviewMode, isNotInDeck, DEFAULT));
+    }
+
+    @Test
+    public void getCommandWords_containsEveryCommand() {
+        assertTrue(parser.getCommandWords().containsAll(Arrays.asList(AddCardCommand.COMMAND_WORD,
+                AddDeckCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ReviewCommand.COMMAND_WORD,
+                FlipCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD)));
+        assertEquals(27, parser.getCommandWords().size());
+    }
+
     //========================= Card mode testcases ===================================================================
     @Test
     public void inDeck_add_success() throws Exception {
@@ -433,6 +494,36 @@ public class FlashNotesParserTest {
     }
 
     //========================= Review mode testcases =================================================================
+    @Test
+    public void reviewMode_runScript_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, () -> parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " script.txt", isReviewMode, isInDeck, DEFAULT));
+    }
+
+    @Test
+    public void reviewMode_import_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, () -> parser.parseCommand(
+                ImportCommand.COMMAND_WORD + " cards.csv", isReviewMode, isInDeck, DEFAULT));
+    }
+
+    @Test
+    public void reviewMode_export_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, () -> parser.parseCommand(
+                ExportCommand.COMMAND_WORD + " cards.csv", isReviewMode, isInDeck, DEFAULT));
+    }
+
+    @Test
+    public void reviewMode_stats_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, () -> parser.parseCommand(
+                StatsCommand.COMMAND_WORD, isReviewMode, isInDeck, DEFAULT));
+    }
+
+    @Test
+    public void reviewMode_undo_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNAVAILABLE_IN_REVIEW_MODE, () -> parser.parseCommand(
+                UndoCommand.COMMAND_WORD, isReviewMode, isInDeck, DEFAULT));
+    }
+
     @Test
     public void inReview_flip_success() throws Exception {
         assertTrue(parser.parseCommand(FlipCommand.COMMAND_WORD, isReviewMode, isInDeck, DEFAULT)
@@ -0,0 +1,33 @@
+package seedu.flashnotes.logic.parser;
+
+import static seedu.flashnotes.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.flashnotes.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.flashnotes.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " data/import.txt ", new RunScriptCommand(Paths.get("data/import.txt")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunScriptCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "a\0b", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunScriptCommand.MESSAGE_USAGE));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.flashnotes.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalDecks.VALID_DECK_1;
@@ -20,6 +21,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.flashnotes.model.deck.Deck;
 import seedu.flashnotes.model.deck.exceptions.DeckNotFoundException;
@@ -175,6 +177,62 @@ public class FlashNotesTest {
         assertThrows(DeckNotFoundException.class, () -> flashNotes.removeDeck(new Deck ("Funky")));
     }
 
+    @Test
+    public void removeFlashcardByTag_severalFlashcardsWithTag_notifiesListenersOnce() {
+        flashNotes.resetData(getTypicalFlashNotes());
+        int[] flashcardChangeCount = {0};
+        flashNotes.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> flashcardChangeCount[0]++);
+
+        flashNotes.removeFlashcardByTag(WHY.getTag());
+
+        assertFalse(flashNotes.hasFlashcard(WHY));
+        assertTrue(flashNotes.getFlashcardList().stream()
+                .noneMatch(flashcard -> flashcard.getTag().equals(WHY.getTag())));
+        assertTrue(flashNotes.hasFlashcard(WHAT));
+        assertEquals(1, flashcardChangeCount[0]);
+    }
+
+    @Test
+    public void syncWith_changedData_appliesOnlyDifferences() {
+        flashNotes.resetData(getTypicalFlashNotes());
+        Flashcard unchangedFlashcard = flashNotes.getFlashcardList().get(0);
+        Deck unchangedDeck = flashNotes.getUniqueDeckList().findDeck("Time");
+
+        FlashNotes newData = new FlashNotes(getTypicalFlashNotes());
+        newData.removeFlashcard(WHAT);
+        Flashcard newFlashcard = new FlashcardBuilder().withQuestion("Newly synced").build();
+        newData.addFlashcard(newFlashcard);
+        Deck changedDeck = new Deck("Math");
+        changedDeck.setResultStatistics("50.0");
+        newData.setDeck(newData.getUniqueDeckList().findDeck("Math"), changedDeck);
+        Deck newDeck = new Deck("Synced deck");
+        newData.addDeck(newDeck);
+
+        int[] flashcardChangeCount = {0};
+        flashNotes.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> flashcardChangeCount[0]++);
+        flashNotes.syncWith(newData);
+
+        assertFalse(flashNotes.hasFlashcard(WHAT));
+        assertTrue(flashNotes.hasFlashcard(newFlashcard));
+        assertEquals(newData.getFlashcardList().size(), flashNotes.getFlashcardList().size());
+        assertSame(unchangedFlashcard, flashNotes.getFlashcardList().get(0));
+        assertEquals(1, flashcardChangeCount[0]);
+
+        assertTrue(flashNotes.hasDeck(newDeck));
+        assertSame(unchangedDeck, flashNotes.getUniqueDeckList().findDeck("Time"));
+        assertEquals("50.0", flashNotes.getUniqueDeckList().findDeck("Math").getResultStatistics());
+    }
+
+    @Test
+    public void syncWith_removedDeck_keepsFlashcardsOfNewData() {
+        flashNotes.resetData(getTypicalFlashNotes());
+        FlashNotes newData = new FlashNotes(getTypicalFlashNotes());
+        newData.getUniqueDeckList().remove(newData.getUniqueDeckList().findDeck("Place"));
+
+        flashNotes.syncWith(newData);
+        assertEquals(newData, flashNotes);
+    }
+
     /**
      * A stub ReadOnlyFlashNotes whose flashcards list can violate interface constraints.
      */
@@ -192,6 +250,11 @@ public class FlashNotesTest {
             return flashcards;
         }
 
+        @Override
+        public List<Flashcard> getFlashcardSnapshot() {
+            return new ArrayList<>(flashcards);
+        }
+
         @Override
         public ObservableList<Deck> getDeckList() {
             return decks;
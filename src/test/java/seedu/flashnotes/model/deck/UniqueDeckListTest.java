@@ -1,6 +1,8 @@
 package seedu.flashnotes.model.deck;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalDecks.VALID_DECK_1;
@@ -12,8 +14,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.flashnotes.model.deck.exceptions.DeckNotFoundException;
 import seedu.flashnotes.model.deck.exceptions.DuplicateDeckException;
+import seedu.flashnotes.model.history.EditHistory;
 
 
 
@@ -172,4 +176,68 @@ public class UniqueDeckListTest {
         Deck deckFound = uniqueDeckList.findDeck("Test Deck 2");
         assertEquals(null, deckFound);
     }
+
+    @Test
+    public void findDeck_afterSetDeckAndSetDecks_findsCurrentDecks() {
+        uniqueDeckList.add(VALID_DECK_1);
+        Deck renamedDeck = new Deck("Renamed Deck");
+        uniqueDeckList.setDeck(VALID_DECK_1, renamedDeck);
+        assertNull(uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+        assertSame(renamedDeck, uniqueDeckList.findDeck(renamedDeck.getDeckName()));
+
+        uniqueDeckList.setDecks(Arrays.asList(VALID_DECK_2, VALID_DECK_1));
+        assertNull(uniqueDeckList.findDeck(renamedDeck.getDeckName()));
+        assertSame(VALID_DECK_1, uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+        assertTrue(uniqueDeckList.contains(new Deck(VALID_DECK_2.getDeckName())));
+    }
+
+    @Test
+    public void findDeck_afterUndoAndRedo_findsCurrentDecks() {
+        EditHistory editHistory = new EditHistory();
+        uniqueDeckList.setEditHistory(editHistory);
+        uniqueDeckList.add(VALID_DECK_1);
+        editHistory.commit("add");
+        uniqueDeckList.remove(VALID_DECK_1);
+        uniqueDeckList.add(VALID_DECK_2);
+        editHistory.commit("replace");
+
+        editHistory.undo();
+        assertSame(VALID_DECK_1, uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+        assertFalse(uniqueDeckList.contains(VALID_DECK_2));
+
+        editHistory.redo();
+        assertNull(uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+        assertTrue(uniqueDeckList.contains(VALID_DECK_2));
+    }
+
+    @Test
+    public void applyAsOneChange_severalChanges_notifiesListenersOnce() {
+        uniqueDeckList.add(VALID_DECK_1);
+        int[] changeCount = {0};
+        uniqueDeckList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Deck>) change -> changeCount[0]++);
+
+        uniqueDeckList.applyAsOneChange(() -> {
+            uniqueDeckList.add(VALID_DECK_2);
+            uniqueDeckList.remove(VALID_DECK_1);
+        });
+
+        assertEquals(Collections.singletonList(VALID_DECK_2), uniqueDeckList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void applyAsOneChange_lookupsWithinChange_seeEarlierChanges() {
+        uniqueDeckList.add(VALID_DECK_1);
+        uniqueDeckList.applyAsOneChange(() -> {
+            uniqueDeckList.add(VALID_DECK_2);
+            assertThrows(DuplicateDeckException.class, () -> uniqueDeckList.add(new Deck(VALID_DECK_2.getDeckName())));
+            uniqueDeckList.remove(VALID_DECK_1);
+            assertNull(uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+            assertFalse(uniqueDeckList.contains(VALID_DECK_1));
+        });
+
+        assertSame(VALID_DECK_2, uniqueDeckList.findDeck(VALID_DECK_2.getDeckName()));
+        assertNull(uniqueDeckList.findDeck(VALID_DECK_1.getDeckName()));
+    }
 }
@@ -0,0 +1,130 @@
+package seedu.flashnotes.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.HOW;
+import static seedu.flashnotes.testutil.TypicalFlashcards.MACROECONS;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHAT;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHEN;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHO;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class CompactFlashcardListTest {
+
+    private final CompactFlashcardList compactFlashcardList = new CompactFlashcardList();
+
+    @Test
+    public void get_addedFlashcard_returnsEqualView() {
+        compactFlashcardList.add(WHAT);
+        Flashcard view = compactFlashcardList.get(0);
+        assertEquals(WHAT, view);
+        assertNotSame(view, compactFlashcardList.get(0));
+        assertSame(WHAT.getTag(), view.getTag());
+        assertEquals(WHAT.getId(), view.getId());
+    }
+
+    @Test
+    public void indexOfId_flashcardsRemovedBefore_returnsShiftedIndex() {
+        compactFlashcardList.addAll(Arrays.asList(WHAT, WHO, WHY));
+        compactFlashcardList.remove(0);
+        assertEquals(1, compactFlashcardList.indexOfId(WHY.getId()));
+        assertEquals(-1, compactFlashcardList.indexOfId(WHAT.getId()));
+    }
+
+    @Test
+    public void copy_listChangedAfterwards_copyUnchanged() {
+        compactFlashcardList.addAll(Arrays.asList(WHAT, WHO));
+        List<Flashcard> copy = compactFlashcardList.copy();
+        compactFlashcardList.set(0, WHY);
+        compactFlashcardList.remove(1);
+
+        assertEquals(Arrays.asList(WHAT, WHO), copy);
+        assertEquals(WHO.getId(), copy.get(1).getId());
+        assertThrows(UnsupportedOperationException.class, () -> copy.remove(0));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> compactFlashcardList.get(0));
+    }
+
+    @Test
+    public void add_atIndex_shiftsFollowingFlashcards() {
+        compactFlashcardList.addAll(Arrays.asList(WHO, WHY));
+        compactFlashcardList.add(1, WHAT);
+        assertEquals(Arrays.asList(WHO, WHAT, WHY), compactFlashcardList);
+    }
+
+    @Test
+    public void indexOf_flashcards_matchesArrayList() {
+        List<Flashcard> flashcards = Arrays.asList(WHO, WHAT, WHY, HOW, WHEN);
+        compactFlashcardList.addAll(flashcards);
+        for (Flashcard flashcard : flashcards) {
+            assertEquals(flashcards.indexOf(flashcard), compactFlashcardList.indexOf(flashcard));
+        }
+        assertEquals(-1, compactFlashcardList.indexOf(MACROECONS));
+        assertFalse(compactFlashcardList.contains(MACROECONS));
+        assertTrue(compactFlashcardList.contains(WHEN));
+    }
+
+    @Test
+    public void setAndRemove_mixedOperations_matchesArrayList() {
+        List<Flashcard> expected = new ArrayList<>(Arrays.asList(WHO, WHAT, WHY, HOW, WHEN));
+        compactFlashcardList.addAll(expected);
+
+        expected.set(2, MACROECONS);
+        compactFlashcardList.set(2, MACROECONS);
+        expected.remove(0);
+        compactFlashcardList.remove(0);
+        expected.remove(WHEN);
+        compactFlashcardList.remove(WHEN);
+        assertEquals(expected, compactFlashcardList);
+
+        compactFlashcardList.remove(0, 2);
+        assertEquals(expected.subList(2, expected.size()), compactFlashcardList);
+    }
+
+    @Test
+    public void setAll_manyFlashcards_notifiesListenersOnce() {
+        compactFlashcardList.addAll(Arrays.asList(WHO, WHAT));
+        int[] changeCount = {0};
+        compactFlashcardList.addListener((ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        compactFlashcardList.setAll(Arrays.asList(WHY, HOW, WHEN));
+        assertEquals(Arrays.asList(WHY, HOW, WHEN), compactFlashcardList);
+        assertEquals(1, changeCount[0]);
+
+        compactFlashcardList.clear();
+        assertTrue(compactFlashcardList.isEmpty());
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void uniqueFlashcardList_compact_equalsRegularList() {
+        UniqueFlashcardList compact = new UniqueFlashcardList(true);
+        UniqueFlashcardList regular = new UniqueFlashcardList();
+        for (Flashcard flashcard : Arrays.asList(WHO, WHAT, WHY)) {
+            compact.add(flashcard);
+            regular.add(flashcard);
+        }
+        compact.setFlashcard(WHAT, HOW);
+        regular.setFlashcard(WHAT, HOW);
+        compact.remove(WHO);
+        regular.remove(WHO);
+        assertEquals(regular, compact);
+        assertTrue(compact.contains(HOW));
+        assertFalse(compact.contains(WHAT));
+    }
+}
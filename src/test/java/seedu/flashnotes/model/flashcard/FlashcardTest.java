@@ -7,9 +7,12 @@ import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_ANSWER_MACRO
 import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_QUESTION_MACROECONS;
 import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_TAG_ECONOMICS;
 import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_TAG_NATURE;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalFlashcards.MACROECONS;
 import static seedu.flashnotes.testutil.TypicalFlashcards.WHAT;
 
+import java.util.Objects;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.flashnotes.testutil.FlashcardBuilder;
@@ -86,6 +89,26 @@ public class FlashcardTest {
         assertFalse(WHAT.isSameFlashcard(editedAlice));
     }
 
+    @Test
+    public void constructor_withId_laterFlashcardsGetLargerIds() {
+        Flashcard withId = new Flashcard(WHAT.getQuestion(), WHAT.getAnswer(), WHAT.getTag(), WHAT.getId() + 1000);
+        assertEquals(WHAT.getId() + 1000, withId.getId());
+        assertTrue(new FlashcardBuilder().build().getId() > withId.getId());
+        // The ID is not part of the identity of a flashcard
+        assertTrue(withId.equals(WHAT));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                new Flashcard(WHAT.getQuestion(), WHAT.getAnswer(), WHAT.getTag(), -1));
+    }
+
+    @Test
+    public void hashCode_equalFlashcards_sameCachedHashCode() {
+        Flashcard whatCopy = new FlashcardBuilder(WHAT).build();
+        assertEquals(WHAT.hashCode(), whatCopy.hashCode());
+        assertEquals(WHAT.hashCode(), WHAT.hashCode());
+        assertEquals(Objects.hash(WHAT.getQuestion(), WHAT.getAnswer(), WHAT.getTag()), WHAT.hashCode());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
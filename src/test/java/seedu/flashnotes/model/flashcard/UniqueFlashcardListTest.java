@@ -2,20 +2,27 @@ package seedu.flashnotes.model.flashcard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.logic.commands.CommandTestUtil.VALID_TAG_NATURE;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalFlashcards.MACROECONS;
 import static seedu.flashnotes.testutil.TypicalFlashcards.WHAT;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHO;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHY;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.flashnotes.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.flashnotes.model.flashcard.exceptions.FlashcardNotFoundException;
+import seedu.flashnotes.model.history.EditHistory;
 import seedu.flashnotes.testutil.FlashcardBuilder;
 
 public class UniqueFlashcardListTest {
@@ -154,6 +161,127 @@ public class UniqueFlashcardListTest {
                 .setFlashcards(listWithDuplicateFlashcards));
     }
 
+    @Test
+    public void setFlashcardsMap_editedFlashcards_replacedInPlaceWithOneChange() {
+        Flashcard editedWhat = new FlashcardBuilder(WHAT).withTag(VALID_TAG_NATURE).build();
+        Flashcard editedMacroecons = new FlashcardBuilder(MACROECONS).withTag(VALID_TAG_NATURE).build();
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO, MACROECONS));
+        int[] changeCount = {0};
+        uniqueFlashcardList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        Map<Flashcard, Flashcard> editedFlashcards = new HashMap<>();
+        editedFlashcards.put(WHAT, editedWhat);
+        editedFlashcards.put(MACROECONS, editedMacroecons);
+        uniqueFlashcardList.setFlashcards(editedFlashcards);
+
+        assertEquals(Arrays.asList(editedWhat, WHO, editedMacroecons),
+                uniqueFlashcardList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void setFlashcardsMap_targetNotInList_throwsFlashcardNotFoundException() {
+        uniqueFlashcardList.add(WHO);
+        assertThrows(FlashcardNotFoundException.class, () ->
+                uniqueFlashcardList.setFlashcards(Collections.singletonMap(WHAT, MACROECONS)));
+    }
+
+    @Test
+    public void setFlashcardsMap_editedFlashcardAlreadyInList_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO));
+        assertThrows(DuplicateFlashcardException.class, () ->
+                uniqueFlashcardList.setFlashcards(Collections.singletonMap(WHAT, WHO)));
+    }
+
+    @Test
+    public void findFlashcard_flashcardInList_returnsFlashcard() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO));
+        assertEquals(WHO, uniqueFlashcardList.findFlashcard(WHO.getId()));
+        assertNull(uniqueFlashcardList.findFlashcard(MACROECONS.getId()));
+
+        UniqueFlashcardList compactList = new UniqueFlashcardList(true);
+        compactList.setFlashcards(Arrays.asList(WHAT, WHO));
+        assertEquals(WHO, compactList.findFlashcard(WHO.getId()));
+        assertNull(compactList.findFlashcard(MACROECONS.getId()));
+    }
+
+    @Test
+    public void findFlashcard_afterEditsAndUndo_findsCurrentFlashcard() {
+        EditHistory editHistory = new EditHistory();
+        uniqueFlashcardList.setEditHistory(editHistory);
+        uniqueFlashcardList.add(WHAT);
+        editHistory.commit("add");
+        Flashcard editedWhat = new Flashcard(WHAT.getQuestion(), WHAT.getAnswer(), MACROECONS.getTag(), WHAT.getId());
+        uniqueFlashcardList.setFlashcard(WHAT, editedWhat);
+        uniqueFlashcardList.remove(editedWhat);
+        editHistory.commit("edit and remove");
+        assertNull(uniqueFlashcardList.findFlashcard(WHAT.getId()));
+
+        editHistory.undo();
+        assertEquals(WHAT, uniqueFlashcardList.findFlashcard(WHAT.getId()));
+        assertTrue(uniqueFlashcardList.contains(WHAT));
+        assertFalse(uniqueFlashcardList.contains(editedWhat));
+    }
+
+    @Test
+    public void findFlashcard_afterRemovalsAndReordering_findsShiftedFlashcards() {
+        for (UniqueFlashcardList list : Arrays.asList(uniqueFlashcardList, new UniqueFlashcardList(true))) {
+            list.setFlashcards(Arrays.asList(WHAT, WHO, WHY, MACROECONS));
+            list.remove(WHAT);
+            list.removeAll(Arrays.asList(WHY));
+            assertEquals(WHO, list.findFlashcard(WHO.getId()));
+            assertEquals(MACROECONS, list.findFlashcard(MACROECONS.getId()));
+            assertFalse(list.containsId(WHAT.getId()));
+            assertFalse(list.containsId(WHY.getId()));
+
+            list.setFlashcards(Arrays.asList(MACROECONS, WHO));
+            list.setFlashcard(WHO, WHY);
+            assertEquals(WHY, list.findFlashcard(WHY.getId()));
+            assertFalse(list.containsId(WHO.getId()));
+            list.remove(MACROECONS);
+            assertEquals(WHY, list.asUnmodifiableObservableList().get(0));
+            assertEquals(WHY, list.findFlashcard(WHY.getId()));
+        }
+    }
+
+    @Test
+    public void contains_flashcardRemovedAndAddedBackInOneChange_returnsTrue() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO));
+        uniqueFlashcardList.applyAsOneChange(() -> {
+            uniqueFlashcardList.add(WHY);
+            uniqueFlashcardList.remove(WHAT);
+            uniqueFlashcardList.add(WHAT);
+        });
+        assertTrue(uniqueFlashcardList.contains(WHAT));
+        assertEquals(WHAT, uniqueFlashcardList.findFlashcard(WHAT.getId()));
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.add(WHY));
+    }
+
+    @Test
+    public void remove_copyWithDifferentId_removesEqualFlashcard() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO));
+        uniqueFlashcardList.remove(new Flashcard(WHO.getQuestion(), WHO.getAnswer(), WHO.getTag()));
+        assertEquals(Arrays.asList(WHAT), uniqueFlashcardList.asUnmodifiableObservableList());
+        assertFalse(uniqueFlashcardList.containsId(WHO.getId()));
+    }
+
+    @Test
+    public void add_flashcardWithIdInList_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.add(WHAT);
+        Flashcard sameId = new Flashcard(WHO.getQuestion(), WHO.getAnswer(), WHO.getTag(), WHAT.getId());
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.add(sameId));
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.setFlashcards(
+                Arrays.asList(WHAT, sameId)));
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcardHasIdOfOtherFlashcard_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.setFlashcards(Arrays.asList(WHAT, WHO));
+        Flashcard editedWhat = new Flashcard(WHAT.getQuestion(), WHAT.getAnswer(), MACROECONS.getTag(), WHO.getId());
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.setFlashcard(WHAT, editedWhat));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,162 @@
+package seedu.flashnotes.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.flashcard.Flashcard;
+
+public class EditHistoryTest {
+
+    private final EditHistory history = new EditHistory();
+    private final List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EditHistory(0));
+    }
+
+    @Test
+    public void undoRedo_committedSteps_listRestored() {
+        replace(1, List.of("b"), List.of("B"));
+        history.commit("edit b");
+        replace(3, List.of(), List.of("d", "e"));
+        replace(0, List.of("a"), List.of());
+        history.commit("add d and e, remove a");
+        assertEquals(Arrays.asList("B", "c", "d", "e"), list);
+
+        assertEquals("add d and e, remove a", history.undo());
+        assertEquals(Arrays.asList("a", "B", "c"), list);
+        assertEquals("edit b", history.undo());
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertFalse(history.canUndo());
+
+        assertEquals("edit b", history.redo());
+        assertEquals("add d and e, remove a", history.redo());
+        assertEquals(Arrays.asList("B", "c", "d", "e"), list);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noEdits_noStep() {
+        history.commit("nothing");
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStepsDropped() {
+        replace(0, List.of("a"), List.of());
+        history.commit("remove a");
+        history.undo();
+        replace(3, List.of(), List.of("d"));
+        history.commit("add d");
+
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void rollBack_uncommittedEdits_reverted() {
+        replace(0, List.of("a"), List.of("A"));
+        history.commit("edit a");
+        replace(1, List.of("b", "c"), List.of());
+        replace(1, List.of(), List.of("x"));
+        assertTrue(history.hasUncommittedEdits());
+
+        history.rollBack();
+
+        assertEquals(Arrays.asList("A", "b", "c"), list);
+        assertFalse(history.hasUncommittedEdits());
+        assertEquals("edit a", history.undo());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_throwsIllegalArgumentException() {
+        replace(0, List.of("a"), List.of());
+        history.commit("remove a");
+        replace(0, List.of("b"), List.of());
+        assertThrows(IllegalArgumentException.class, history::undo);
+    }
+
+    @Test
+    public void undo_nothingToUndo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, history::undo);
+        assertThrows(IllegalArgumentException.class, history::redo);
+    }
+
+    @Test
+    public void commit_beyondCapacity_oldestStepDropped() {
+        EditHistory smallHistory = new EditHistory(2);
+        for (String element : new String[] {"d", "e", "f"}) {
+            smallHistory.record(list, list.size(), List.of(), List.of(element));
+            list.add(element);
+            smallHistory.commit("add " + element);
+        }
+
+        assertEquals("add f", smallHistory.undo());
+        assertEquals("add e", smallHistory.undo());
+        assertFalse(smallHistory.canUndo());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+    }
+
+    @Test
+    public void undo_flashNotesChanges_flashNotesRestored() {
+        FlashNotes flashNotes = new FlashNotes(getTypicalFlashNotes());
+        FlashNotes original = new FlashNotes(flashNotes);
+        flashNotes.setEditHistory(history);
+
+        List<Flashcard> flashcards = flashNotes.getFlashcardList();
+        flashNotes.removeDeck(flashNotes.getDeckList().get(0));
+        flashNotes.removeFlashcard(flashcards.get(flashcards.size() - 1));
+        history.commit("delete a deck and a flashcard");
+        flashNotes.resetData(new FlashNotes());
+        history.commit("clear");
+
+        history.undo();
+        history.undo();
+        assertEquals(original, flashNotes);
+        assertEquals(original.getFlashcardList(), flashNotes.getFlashcardList());
+    }
+
+    @Test
+    public void undoRedo_severalFlashcardEdits_listenersNotifiedOncePerList() {
+        FlashNotes flashNotes = new FlashNotes(getTypicalFlashNotes());
+        FlashNotes original = new FlashNotes(flashNotes);
+        flashNotes.setEditHistory(history);
+
+        List<Flashcard> flashcards = flashNotes.getFlashcardList();
+        flashNotes.removeFlashcard(flashcards.get(0));
+        flashNotes.removeFlashcard(flashcards.get(flashcards.size() - 1));
+        flashNotes.removeFlashcard(flashcards.get(1));
+        history.commit("delete three flashcards");
+
+        int[] flashcardChangeCount = {0};
+        flashNotes.getFlashcardList().addListener((ListChangeListener<Flashcard>) change -> flashcardChangeCount[0]++);
+        history.undo();
+        assertEquals(original.getFlashcardList(), flashNotes.getFlashcardList());
+        assertEquals(1, flashcardChangeCount[0]);
+
+        history.redo();
+        assertEquals(original.getFlashcardList().size() - 3, flashNotes.getFlashcardList().size());
+        assertEquals(2, flashcardChangeCount[0]);
+    }
+
+    /**
+     * Replaces {@code removed} at position {@code from} of the list with {@code added}, recording the edit.
+     */
+    private void replace(int from, List<String> removed, List<String> added) {
+        history.record(list, from, removed, added);
+        list.subList(from, from + removed.size()).clear();
+        list.addAll(from, added);
+    }
+}
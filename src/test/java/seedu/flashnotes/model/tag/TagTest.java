@@ -1,5 +1,8 @@
 package seedu.flashnotes.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -7,14 +10,26 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        Tag tag = Tag.of("Biology");
+        assertSame(tag, Tag.of(new String("Biology")));
+        assertEquals(tag, Tag.of("Biology"));
+    }
+
+    @Test
+    public void of_differentName_returnsDifferentInstance() {
+        assertNotSame(Tag.of("Biology"), Tag.of("biology"));
     }
 
     @Test
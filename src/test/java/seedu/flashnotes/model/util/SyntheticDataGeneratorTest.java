@@ -0,0 +1,97 @@
+package seedu.flashnotes.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameLibrary() {
+        FlashNotes first = new SyntheticDataGenerator(7).withCardCount(500).withUnicode(true).generate();
+        FlashNotes second = new SyntheticDataGenerator(7).withCardCount(500).withUnicode(true).generate();
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void generate_differentSeed_differentLibrary() {
+        FlashNotes first = new SyntheticDataGenerator(7).withCardCount(500).generate();
+        FlashNotes second = new SyntheticDataGenerator(8).withCardCount(500).generate();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generate_compact_equalsRegular() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withCardCount(500);
+        assertEquals(generator.generate(false), generator.generate(true));
+    }
+
+    @Test
+    public void generate_shortTexts_allFlashcardsValidAndUnique() {
+        FlashNotes flashNotes = new SyntheticDataGenerator().withCardCount(5000).withDeckCount(3)
+                .withTextLength(1, 3).withUnicode(true).generate();
+        assertEquals(5000, flashNotes.getFlashcardList().size());
+        for (Flashcard flashcard : flashNotes.getFlashcardList()) {
+            assertTrue(Question.isValidQuestion(flashcard.getQuestion().question));
+            assertTrue(Answer.isValidAnswer(flashcard.getAnswer().value));
+            assertTrue(flashcard.getAnswer().value.length() <= 3);
+        }
+    }
+
+    @Test
+    public void generate_skewedDistribution_matchesCardsPerDeck() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withCardCount(10000).withDeckCount(20)
+                .withSkew(1.2).withUnicode(true);
+        FlashNotes flashNotes = generator.generate();
+        int[] cardsPerDeck = generator.getCardsPerDeck();
+
+        Map<String, Long> countsByTag = flashNotes.getFlashcardList().stream()
+                .collect(Collectors.groupingBy(flashcard -> flashcard.getTag().tagName, Collectors.counting()));
+        Map<String, Deck> decksByName = flashNotes.getDeckList().stream()
+                .collect(Collectors.toMap(Deck::getDeckName, Function.identity()));
+        assertEquals(20, decksByName.size());
+        for (int i = 0; i < cardsPerDeck.length; i++) {
+            String deckName = flashNotes.getDeckList().get(i).getDeckName();
+            assertTrue(Deck.isValidDeckLength(deckName));
+            assertEquals(cardsPerDeck[i], countsByTag.getOrDefault(deckName, 0L).intValue());
+        }
+    }
+
+    @Test
+    public void getCardsPerDeck_noSkew_evenlySpread() {
+        int[] cardsPerDeck = new SyntheticDataGenerator().withCardCount(10).withDeckCount(4).getCardsPerDeck();
+        assertArrayEquals(new int[] {3, 3, 2, 2}, cardsPerDeck);
+    }
+
+    @Test
+    public void getCardsPerDeck_skew_decreasingCounts() {
+        int[] cardsPerDeck = new SyntheticDataGenerator().withCardCount(1000).withDeckCount(3).withSkew(1)
+                .getCardsPerDeck();
+        assertArrayEquals(new int[] {545, 273, 182}, cardsPerDeck);
+    }
+
+    @Test
+    public void withSettings_invalidSettings_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.withDeckCount(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCardCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withSkew(-0.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTextLength(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTextLength(20, 10));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTextLength(10, 141));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.flashnotes.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundSaverTest {
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver();
+    private final List<String> saved = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void save_savesWhileSaving_onlyLatestWaitingSaveWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        CompletableFuture<Void> first = backgroundSaver.save(() -> {
+            firstSaveStarted.countDown();
+            try {
+                firstSaveReleased.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            saved.add("first");
+        });
+        firstSaveStarted.await();
+
+        CompletableFuture<Void> second = backgroundSaver.save(() -> saved.add("second"));
+        CompletableFuture<Void> third = backgroundSaver.save(() -> saved.add("third"));
+        assertSame(second, third);
+
+        firstSaveReleased.countDown();
+        backgroundSaver.waitForSaves();
+        assertTrue(first.isDone() && third.isDone());
+        assertEquals(Arrays.asList("first", "third"), saved);
+    }
+
+    @Test
+    public void save_failingSave_failsWithException() {
+        IOException exception = new IOException("disk full");
+        CompletableFuture<Void> save = backgroundSaver.save(() -> {
+            throw exception;
+        });
+
+        backgroundSaver.waitForSaves();
+        CompletionException thrown = assertThrows(CompletionException.class, save::join);
+        assertSame(exception, thrown.getCause());
+
+        backgroundSaver.save(() -> saved.add("next")).join();
+        assertEquals(Arrays.asList("next"), saved);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.flashnotes.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.flashnotes.testutil.Assert.assertThrows;
+import static seedu.flashnotes.testutil.TypicalFlashcards.WHO_IS_MEIER;
+import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.flashnotes.commons.util.FileUtil;
+import seedu.flashnotes.model.FlashNotes;
+import seedu.flashnotes.model.ReadOnlyFlashNotes;
+
+public class FlashNotesFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyFlashNotes> reloaded = new ArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FlashNotesFileWatcher(null, reloaded::add));
+        assertThrows(NullPointerException.class, () ->
+                new FlashNotesFileWatcher(new JsonFlashNotesStorage(testFolder.resolve("data.json")), null));
+    }
+
+    @Test
+    public void reloadIfChangedExternally_ownWrite_ignored() throws Exception {
+        JsonFlashNotesStorage storage = new JsonFlashNotesStorage(testFolder.resolve("data.json"));
+        FlashNotes flashNotes = getTypicalFlashNotes();
+        storage.saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+
+        new FlashNotesFileWatcher(storage, reloaded::add).reloadIfChangedExternally();
+        assertTrue(reloaded.isEmpty());
+    }
+
+    @Test
+    public void reloadIfChangedExternally_externalWrite_reloadsOnce() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonFlashNotesStorage storage = new JsonFlashNotesStorage(filePath);
+        FlashNotes flashNotes = getTypicalFlashNotes();
+        storage.saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+
+        FlashNotes externallyChanged = getTypicalFlashNotes();
+        externallyChanged.addFlashcard(WHO_IS_MEIER);
+        new JsonFlashNotesStorage(filePath).saveFlashNotes(externallyChanged,
+                externallyChanged.getUniqueDeckList());
+
+        FlashNotesFileWatcher watcher = new FlashNotesFileWatcher(storage, reloaded::add);
+        watcher.reloadIfChangedExternally();
+        watcher.reloadIfChangedExternally();
+        assertEquals(1, reloaded.size());
+        assertEquals(externallyChanged, new FlashNotes(reloaded.get(0)));
+    }
+
+    @Test
+    public void reloadIfChangedExternally_invalidFile_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        JsonFlashNotesStorage storage = new JsonFlashNotesStorage(filePath);
+        FlashNotes flashNotes = getTypicalFlashNotes();
+        storage.saveFlashNotes(flashNotes, flashNotes.getUniqueDeckList());
+
+        FileUtil.writeToFile(filePath, "{ \"flashcards\" : [ ");
+        new FlashNotesFileWatcher(storage, reloaded::add).reloadIfChangedExternally();
+        assertTrue(reloaded.isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.flashnotes.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.flashnotes.storage.JsonAdaptedFlashcard.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalFlashcards.WHO;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.flashnotes.commons.exceptions.IllegalValueException;
 import seedu.flashnotes.model.flashcard.Answer;
+import seedu.flashnotes.model.flashcard.Flashcard;
 import seedu.flashnotes.model.flashcard.Question;
 import seedu.flashnotes.model.tag.Tag;
 
@@ -16,29 +18,47 @@ public class JsonAdaptedFlashcardTest {
     private static final String INVALID_QUESTION = "";
     private static final String INVALID_ANSWER = "";
     private static final String INVALID_TAG = "";
+    private static final int INVALID_ID = -1;
 
     private static final String VALID_QUESTION = WHO.getQuestion().toString();
     private static final String VALID_ANSWER = WHO.getAnswer().toString();
     private static final String VALID_TAG = WHO.getTag().toString();
+    private static final int VALID_ID = WHO.getId();
 
 
     @Test
     public void toModelType_validFlashcardDetails_returnsFlashcard() throws Exception {
         JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(WHO);
         assertEquals(WHO, flashcard.toModelType());
+        assertEquals(WHO.getId(), flashcard.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsFlashcardWithNewId() throws Exception {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, VALID_TAG, null);
+        Flashcard modelFlashcard = flashcard.toModelType();
+        assertEquals(WHO, modelFlashcard);
+        assertNotEquals(WHO.getId(), modelFlashcard.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedFlashcard flashcard =
+                new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, VALID_TAG, INVALID_ID);
+        assertThrows(IllegalValueException.class, Flashcard.MESSAGE_ID_CONSTRAINTS, flashcard::toModelType);
     }
 
     @Test
     public void toModelType_invalidQuestion_throwsIllegalValueException() {
         JsonAdaptedFlashcard flashcard =
-                new JsonAdaptedFlashcard(INVALID_QUESTION, VALID_ANSWER, VALID_TAG);
+                new JsonAdaptedFlashcard(INVALID_QUESTION, VALID_ANSWER, VALID_TAG, VALID_ID);
         String expectedMessage = Question.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
 
     @Test
     public void toModelType_nullQuestion_throwsIllegalValueException() {
-        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(null, VALID_ANSWER, VALID_TAG);
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(null, VALID_ANSWER, VALID_TAG, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Question.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
@@ -46,14 +66,14 @@ public class JsonAdaptedFlashcardTest {
     @Test
     public void toModelType_invalidAnswer_throwsIllegalValueException() {
         JsonAdaptedFlashcard flashcard =
-                new JsonAdaptedFlashcard(VALID_QUESTION, INVALID_ANSWER, VALID_TAG);
+                new JsonAdaptedFlashcard(VALID_QUESTION, INVALID_ANSWER, VALID_TAG, VALID_ID);
         String expectedMessage = Answer.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
 
     @Test
     public void toModelType_nullAnswer_throwsIllegalValueException() {
-        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION, null, VALID_TAG);
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION, null, VALID_TAG, VALID_ID);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Answer.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
@@ -61,7 +81,7 @@ public class JsonAdaptedFlashcardTest {
     @Test
     public void toModelType_invalidTag_throwsIllegalValueException() {
         JsonAdaptedFlashcard flashcard =
-                new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, INVALID_TAG);
+                new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, INVALID_TAG, VALID_ID);
         String expectedMessage = Tag.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
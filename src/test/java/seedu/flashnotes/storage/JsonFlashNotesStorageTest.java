@@ -2,6 +2,7 @@ package seedu.flashnotes.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.flashnotes.testutil.Assert.assertThrows;
 import static seedu.flashnotes.testutil.TypicalFlashcards.WHAT;
 import static seedu.flashnotes.testutil.TypicalFlashcards.WHAT_IS_MEIER;
@@ -9,6 +10,7 @@ import static seedu.flashnotes.testutil.TypicalFlashcards.WHO_IS_MEIER;
 import static seedu.flashnotes.testutil.TypicalFlashcards.getTypicalFlashNotes;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,9 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.flashnotes.commons.exceptions.DataConversionException;
+import seedu.flashnotes.commons.util.FileUtil;
 import seedu.flashnotes.model.FlashNotes;
 import seedu.flashnotes.model.ReadOnlyFlashNotes;
 import seedu.flashnotes.model.deck.UniqueDeckList;
+import seedu.flashnotes.model.util.SyntheticDataGenerator;
 
 public class JsonFlashNotesStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test",
@@ -97,6 +101,60 @@ public class JsonFlashNotesStorageTest {
         assertEquals(original, new FlashNotes(readBack));
     }
 
+    @Test
+    public void readAndSaveFlashNotes_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashNotes.json.gz");
+        FlashNotes original = getTypicalFlashNotes();
+        JsonFlashNotesStorage jsonFlashNotesStorage = new JsonFlashNotesStorage(filePath, true);
+
+        jsonFlashNotesStorage.saveFlashNotes(original, original.getUniqueDeckList());
+        assertTrue(FileUtil.isGzipFile(filePath));
+        ReadOnlyFlashNotes readBack = jsonFlashNotesStorage.readFlashNotes().get();
+        assertEquals(original, new FlashNotes(readBack));
+    }
+
+    @Test
+    public void prepareSaveFlashNotes_changedBeforeSaving_savesDataAsPrepared() throws Exception {
+        Path filePath = testFolder.resolve("TempFlashNotes.json");
+        FlashNotes original = getTypicalFlashNotes();
+        JsonFlashNotesStorage jsonFlashNotesStorage = new JsonFlashNotesStorage(filePath);
+
+        FlashNotesStorage.SaveTask saveTask =
+                jsonFlashNotesStorage.prepareSaveFlashNotes(original, original.getUniqueDeckList());
+        FlashNotes prepared = new FlashNotes(original);
+        original.addFlashcard(WHAT_IS_MEIER);
+        saveTask.save();
+
+        ReadOnlyFlashNotes readBack = jsonFlashNotesStorage.readFlashNotes().get();
+        assertEquals(prepared, new FlashNotes(readBack));
+    }
+
+    @Test
+    public void readFlashNotes_compressedFileWithUncompressedStorage_detectsCompression() throws Exception {
+        Path compressedFilePath = testFolder.resolve("CompressedFlashNotes.json");
+        Path plainFilePath = testFolder.resolve("PlainFlashNotes.json");
+        FlashNotes original = getTypicalFlashNotes();
+        new JsonFlashNotesStorage(compressedFilePath, true).saveFlashNotes(original, original.getUniqueDeckList());
+        new JsonFlashNotesStorage(plainFilePath, false).saveFlashNotes(original, original.getUniqueDeckList());
+
+        assertFalse(FileUtil.isGzipFile(plainFilePath));
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        ReadOnlyFlashNotes readBack = new JsonFlashNotesStorage(compressedFilePath).readFlashNotes().get();
+        assertEquals(original, new FlashNotes(readBack));
+    }
+
+    @Test
+    public void readAndSaveFlashNotes_largeUnicodeLibrary_success() throws Exception {
+        Path filePath = testFolder.resolve("LargeFlashNotes.json");
+        FlashNotes original = new SyntheticDataGenerator().withCardCount(20000).withDeckCount(50).withSkew(1)
+                .withTextLength(1, 140).withUnicode(true).generate();
+        JsonFlashNotesStorage jsonFlashNotesStorage = new JsonFlashNotesStorage(filePath);
+
+        jsonFlashNotesStorage.saveFlashNotes(original, original.getUniqueDeckList());
+        ReadOnlyFlashNotes readBack = jsonFlashNotesStorage.readFlashNotes().get();
+        assertEquals(original, new FlashNotes(readBack));
+    }
+
     @Test
     public void saveFlashNotes_nullFlashNotes_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveFlashNotes(null,
@@ -5,6 +5,11 @@ import static seedu.flashnotes.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +17,9 @@ import seedu.flashnotes.commons.exceptions.IllegalValueException;
 import seedu.flashnotes.commons.util.JsonUtil;
 import seedu.flashnotes.model.FlashNotes;
 import seedu.flashnotes.model.deck.Deck;
+import seedu.flashnotes.model.flashcard.Flashcard;
+import seedu.flashnotes.model.flashcard.Question;
+import seedu.flashnotes.model.tag.Tag;
 import seedu.flashnotes.testutil.TypicalFlashcards;
 
 public class JsonSerializableFlashNotesTest {
@@ -23,6 +31,8 @@ public class JsonSerializableFlashNotesTest {
     private static final Path DUPLICATE_FLASHCARD_FILE = TEST_DATA_FOLDER.resolve("duplicateFlashcard.json");
     private static final Path INVALID_DECK_FILE = TEST_DATA_FOLDER.resolve("invalidDeck.json");
     private static final Path RESERVED_DECK_FILE = TEST_DATA_FOLDER.resolve("reservedDeck.json");
+    private static final Path FLASHCARD_WITHOUT_ID_FILE =
+            TEST_DATA_FOLDER.resolve("flashcardWithoutIdBeforeIdZero.json");
 
 
     @Test
@@ -66,4 +76,87 @@ public class JsonSerializableFlashNotesTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_flashcardWithoutIdBeforeIdZero_givenUnusedId() throws Exception {
+        JsonSerializableFlashNotes dataFromFile = JsonUtil.readJsonFile(FLASHCARD_WITHOUT_ID_FILE,
+                JsonSerializableFlashNotes.class).get();
+        List<Flashcard> flashcards = dataFromFile.toModelType().getFlashcardList();
+        assertEquals(2, flashcards.size());
+        assertEquals(1, flashcards.get(0).getId());
+        assertEquals(0, flashcards.get(1).getId());
+    }
+
+    @Test
+    public void toModelType_largeFlashcardList_preservesOrder() throws Exception {
+        List<JsonAdaptedFlashcard> adaptedFlashcards = getLargeAdaptedFlashcardList();
+        FlashNotes flashNotes = new JsonSerializableFlashNotes(adaptedFlashcards, new ArrayList<>()).toModelType();
+
+        List<Flashcard> flashcards = flashNotes.getFlashcardList();
+        assertEquals(adaptedFlashcards.size(), flashcards.size());
+        for (int i = 0; i < flashcards.size(); i++) {
+            assertEquals(adaptedFlashcards.get(i).toModelType(), flashcards.get(i));
+            assertEquals(i, flashcards.get(i).getId());
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateFlashcardIds_throwsIllegalValueException() {
+        List<JsonAdaptedFlashcard> adaptedFlashcards = getLargeAdaptedFlashcardList();
+        adaptedFlashcards.add(new JsonAdaptedFlashcard("Another question", "Another answer", "Deck 0", 0));
+        JsonSerializableFlashNotes data = new JsonSerializableFlashNotes(adaptedFlashcards, new ArrayList<>());
+        assertThrows(IllegalValueException.class, JsonSerializableFlashNotes.MESSAGE_DUPLICATE_FLASHCARD_ID,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_largeFlashcardListWithDuplicate_throwsIllegalValueException() {
+        List<JsonAdaptedFlashcard> adaptedFlashcards = getLargeAdaptedFlashcardList();
+        adaptedFlashcards.add(adaptedFlashcards.get(0));
+        JsonSerializableFlashNotes data = new JsonSerializableFlashNotes(adaptedFlashcards, new ArrayList<>());
+        assertThrows(IllegalValueException.class, JsonSerializableFlashNotes.MESSAGE_DUPLICATE_FLASHCARD,
+                data::toModelType);
+    }
+
+    @Test
+    public void toModelType_largeFlashcardListWithInvalidFlashcards_reportsEarliestError() {
+        List<JsonAdaptedFlashcard> adaptedFlashcards = getLargeAdaptedFlashcardList();
+        adaptedFlashcards.set(10, new JsonAdaptedFlashcard(" ", "answer", "Default", null));
+        adaptedFlashcards.set(adaptedFlashcards.size() - 1, adaptedFlashcards.get(0));
+        adaptedFlashcards.set(adaptedFlashcards.size() - 2,
+                new JsonAdaptedFlashcard("question", null, "Default", null));
+        JsonSerializableFlashNotes data = new JsonSerializableFlashNotes(adaptedFlashcards, new ArrayList<>());
+        assertThrows(IllegalValueException.class, Question.MESSAGE_CONSTRAINTS, data::toModelType);
+    }
+
+    @Test
+    public void toModelType_hundredThousandFlashcards_sharesOneTagPerDeck() throws Exception {
+        int deckCount = 20;
+        List<JsonAdaptedFlashcard> adaptedFlashcards = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            adaptedFlashcards.add(new JsonAdaptedFlashcard("Question " + i, "Answer " + i,
+                    new String("Deck " + (i % deckCount)), null));
+        }
+        FlashNotes flashNotes = new JsonSerializableFlashNotes(adaptedFlashcards, new ArrayList<>()).toModelType();
+
+        Set<Tag> distinctTags = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> distinctTagNames = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Flashcard flashcard : flashNotes.getFlashcardList()) {
+            distinctTags.add(flashcard.getTag());
+            distinctTagNames.add(flashcard.getTag().tagName);
+        }
+        assertEquals(deckCount, distinctTags.size());
+        assertEquals(deckCount, distinctTagNames.size());
+    }
+
+    /**
+     * Returns a list of distinct flashcards long enough to be converted in parallel, each with its index as its ID.
+     */
+    private static List<JsonAdaptedFlashcard> getLargeAdaptedFlashcardList() {
+        List<JsonAdaptedFlashcard> adaptedFlashcards = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableFlashNotes.PARALLEL_CONVERSION_THRESHOLD * 4; i++) {
+            adaptedFlashcards.add(new JsonAdaptedFlashcard("Question " + i, "Answer " + i, "Deck " + (i % 7), i));
+        }
+        return adaptedFlashcards;
+    }
+
 }
@@ -60,6 +60,15 @@ public class StorageManagerTest {
         assertEquals(original, new FlashNotes(retrieved));
     }
 
+    @Test
+    public void saveFlashNotesInBackground_savedOnceComplete() throws Exception {
+        FlashNotes original = getTypicalFlashNotes();
+        storageManager.saveFlashNotesInBackground(original, original.getUniqueDeckList());
+        storageManager.waitForBackgroundSaves();
+        ReadOnlyFlashNotes retrieved = storageManager.readFlashNotes().get();
+        assertEquals(original, new FlashNotes(retrieved));
+    }
+
     @Test
     public void getFlashNotesFilePath() {
         assertNotNull(storageManager.getFlashNotesFilePath());
@@ -53,7 +53,7 @@ public class EditFlashcardDescriptorBuilder {
      * that we are building.
      */
     public EditFlashcardDescriptorBuilder withTag(String tag) {
-        descriptor.setTag(new Tag(tag));
+        descriptor.setTag(Tag.of(tag));
         return this;
     }
 
@@ -25,7 +25,7 @@ public class FlashcardBuilder {
     public FlashcardBuilder() {
         question = new Question(DEFAULT_QUESTION);
         answer = new Answer(DEFAULT_ANSWER);
-        tag = new Tag(DEFAULT_TAG);
+        tag = Tag.of(DEFAULT_TAG);
     }
 
     /**
@@ -49,7 +49,7 @@ public class FlashcardBuilder {
      * Parses the {@code tags} into a {@code Set<Tag>} and set it to the {@code Flashcard} that we are building.
      */
     public FlashcardBuilder withTag(String tag) {
-        this.tag = new Tag(tag);
+        this.tag = Tag.of(tag);
         return this;
     }
 